@@ -0,0 +1,86 @@
+package io.hahnsoftware.backend.benchmark;
+
+import io.hahnsoftware.backend.entity.Role;
+import io.hahnsoftware.backend.entity.User;
+import io.hahnsoftware.backend.filter.JwtFilter;
+import io.hahnsoftware.backend.service.auth.AuthenticatedUserCache;
+import io.hahnsoftware.backend.service.auth.JwtService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token generation, parsing and validation, plus the full filter path of an authenticated request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtBenchmark {
+
+    private static final String SECRET =
+            "00fd277d16ee28fd0b942cacfa33f7caad58c1fcb32148766c9f7290727b8f7886ba5791e4cc07056365da450e40ac52";
+
+    private final FilterChain filterChain = (request, response) -> { };
+
+    private User user;
+    private JwtService jwtService;
+    private JwtFilter jwtFilter;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        user = new User();
+        user.setId(1L);
+        user.setUsername("benchmark");
+        user.setRole(Role.USER);
+        UserDetailsService userDetailsService = username -> user;
+
+        jwtService = new JwtService(userDetailsService);
+        ReflectionTestUtils.setField(jwtService, "secretKey", SECRET);
+        ReflectionTestUtils.setField(jwtService, "expiration", 86400L);
+        jwtService.init();
+        AuthenticatedUserCache userCache = new AuthenticatedUserCache(null);
+        jwtFilter = new JwtFilter(jwtService, userDetailsService, userCache, new SimpleMeterRegistry());
+        token = jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public String extractUsernameUncached() {
+        // A fresh token per call misses the verified-token cache
+        return jwtService.extractUsername(jwtService.generateToken(user));
+    }
+
+    @Benchmark
+    public String extractUsername() {
+        return jwtService.extractUsername(token);
+    }
+
+    @Benchmark
+    public Boolean isTokenValid() {
+        return jwtService.isTokenValid(token, user);
+    }
+
+    @Benchmark
+    public Object filterAuthenticatedRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks");
+        request.addHeader("Authorization", "Bearer " + token);
+        try {
+            jwtFilter.doFilter(request, new MockHttpServletResponse(), filterChain);
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
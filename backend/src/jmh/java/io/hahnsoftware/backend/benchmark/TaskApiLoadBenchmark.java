@@ -0,0 +1,135 @@
+package io.hahnsoftware.backend.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hahnsoftware.backend.BackendApplication;
+import io.hahnsoftware.backend.dto.TaskDTO;
+import io.hahnsoftware.backend.entity.Task;
+import io.hahnsoftware.backend.repository.UserRepository;
+import io.hahnsoftware.backend.service.TaskService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end load on GET /api/tasks/{id} with more concurrent clients than Tomcat threads and a stalled
+ * database, comparing platform and virtual request threads. Throughput and SampleTime (p99) are reported
+ * per mode. Virtual mode needs a Java 21 runtime; on older JVMs Spring Boot ignores the switch.
+ *
+ * <pre>mvn -Pbenchmark test-compile exec:exec -DskipTests -Djmh.benchmarks=TaskApiLoadBenchmark</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(200)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+public class TaskApiLoadBenchmark {
+
+    private static final int SEEDED_TASKS = 100;
+
+    @Param({"false", "true"})
+    public boolean virtualThreads;
+
+    @Param({"50"})
+    public int tomcatThreads;
+
+    @Param({"50"})
+    public int poolSize;
+
+    @Param({"10"})
+    public long dbLatencyMillis;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private String baseUrl;
+    private String token;
+    private long firstTaskId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        if (virtualThreads && Runtime.version().feature() < 21) {
+            System.err.println("Java " + Runtime.version().feature() + " has no virtual threads; both modes will match");
+        }
+        context = new SpringApplicationBuilder(BackendApplication.class)
+                .profiles("test")
+                .properties(
+                        "logging.level.root=WARN",
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "server.tomcat.threads.max=" + tomcatThreads,
+                        "spring.datasource.hikari.maximum-pool-size=" + poolSize)
+                .initializers(context -> context.getBeanFactory().addBeanPostProcessor(new BeanPostProcessor() {
+                    @Override
+                    public Object postProcessAfterInitialization(Object bean, String beanName) {
+                        return bean instanceof DataSource dataSource && "dataSource".equals(beanName)
+                                ? new LatencyDataSource(dataSource, dbLatencyMillis)
+                                : bean;
+                    }
+                }))
+                .run();
+        baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        String username = "load" + UUID.randomUUID().toString().substring(0, 8);
+        token = register(username);
+
+        // Seeded for the registered user, since tasks are only visible to their owner
+        Long ownerId = context.getBean(UserRepository.class).findByUsername(username).orElseThrow().getId();
+        TaskService taskService = context.getBean(TaskService.class);
+        firstTaskId = taskService.addTask(ownerId, newTask(0)).getId();
+        for (int i = 1; i < SEEDED_TASKS; i++) {
+            taskService.addTask(ownerId, newTask(i));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int getTask() throws Exception {
+        long id = firstTaskId + (Thread.currentThread().getId() % SEEDED_TASKS);
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/tasks/" + id))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Unexpected status " + response.statusCode());
+        }
+        return response.statusCode();
+    }
+
+    private String register(String username) throws Exception {
+        String body = "{\"firstName\":\"Load\",\"lastName\":\"Test\",\"username\":\"" + username
+                + "\",\"email\":\"" + username + "@example.com\",\"password\":\"password123\"}";
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/register"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        JsonNode response = new ObjectMapper().readTree(client.send(request, HttpResponse.BodyHandlers.ofString()).body());
+        return response.get("token").asText();
+    }
+
+    private static TaskDTO newTask(int i) {
+        TaskDTO task = new TaskDTO();
+        task.setTitle("Load task " + i);
+        task.setStatus(Task.TaskStatus.TODO);
+        task.setPriority(Task.TaskPriority.MEDIUM);
+        task.setDueDate(LocalDate.now().plusDays(1 + i % 60));
+        return task;
+    }
+}
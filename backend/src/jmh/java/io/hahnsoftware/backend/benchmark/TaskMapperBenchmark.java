@@ -0,0 +1,77 @@
+package io.hahnsoftware.backend.benchmark;
+
+import io.hahnsoftware.backend.dto.TaskDTO;
+import io.hahnsoftware.backend.entity.Task;
+import io.hahnsoftware.backend.mapper.TaskMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskMapperBenchmark {
+
+    private static final int LIST_SIZE = 10_000;
+
+    private final ModelMapper modelMapper = new ModelMapper();
+    private final TaskMapper taskMapper = new TaskMapper(new SimpleMeterRegistry());
+
+    private Task task;
+    private TaskDTO taskDTO;
+    private List<Task> tasks;
+
+    @Setup
+    public void setUp() {
+        tasks = new ArrayList<>(LIST_SIZE);
+        for (int i = 0; i < LIST_SIZE; i++) {
+            tasks.add(newTask(i));
+        }
+        task = tasks.get(0);
+        taskDTO = taskMapper.toDto(task);
+    }
+
+    @Benchmark
+    public TaskDTO modelMapperToDto() {
+        return modelMapper.map(task, TaskDTO.class);
+    }
+
+    @Benchmark
+    public TaskDTO taskMapperToDto() {
+        return taskMapper.toDto(task);
+    }
+
+    @Benchmark
+    public Task modelMapperToEntity() {
+        return modelMapper.map(taskDTO, Task.class);
+    }
+
+    @Benchmark
+    public Task taskMapperToEntity() {
+        return taskMapper.toEntity(taskDTO);
+    }
+
+    @Benchmark
+    public List<TaskDTO> modelMapperToDtoList() {
+        return tasks.stream().map((task -> modelMapper.map(task, TaskDTO.class))).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<TaskDTO> taskMapperToDtoList() {
+        return taskMapper.toDtoList(tasks);
+    }
+
+    private static Task newTask(long id) {
+        LocalDateTime now = LocalDateTime.of(2025, 6, 22, 10, 30);
+        return new Task(id, "Task " + id, "Description of task " + id,
+                Task.TaskStatus.TODO, Task.TaskPriority.MEDIUM, LocalDate.of(2025, 7, 1),
+                now, now, null, 0L, null);
+    }
+}
@@ -0,0 +1,99 @@
+package io.hahnsoftware.backend.benchmark;
+
+import io.hahnsoftware.backend.BackendApplication;
+import io.hahnsoftware.backend.dto.TaskDTO;
+import io.hahnsoftware.backend.dto.TaskPageDTO;
+import io.hahnsoftware.backend.dto.TaskPageRequest;
+import io.hahnsoftware.backend.entity.Task;
+import io.hahnsoftware.backend.entity.User;
+import io.hahnsoftware.backend.repository.UserRepository;
+import io.hahnsoftware.backend.service.TaskService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Task service hot paths against the in-memory H2 database of the test profile.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskServiceBenchmark {
+
+    private static final int SEEDED_TASKS = 1_000;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private Long ownerId;
+    private Long taskId;
+    private TaskDTO update;
+    private TaskPageRequest pageRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(BackendApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .properties("logging.level.root=WARN")
+                .run();
+        taskService = context.getBean(TaskService.class);
+        User owner = new User();
+        owner.setFirstName("Benchmark");
+        owner.setLastName("Owner");
+        owner.setUsername("benchmark");
+        owner.setEmail("benchmark@example.com");
+        owner.setPassword("unused");
+        ownerId = context.getBean(UserRepository.class).save(owner).getId();
+        for (int i = 0; i < SEEDED_TASKS; i++) {
+            taskId = taskService.addTask(ownerId, newTask(i)).getId();
+        }
+        update = newTask(-1);
+        pageRequest = new TaskPageRequest();
+        pageRequest.setSize(50);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public TaskDTO createTask() {
+        return taskService.addTask(ownerId, newTask(0));
+    }
+
+    @Benchmark
+    public TaskDTO getTask() {
+        return taskService.getTask(ownerId, taskId);
+    }
+
+    @Benchmark
+    public List<TaskDTO> getAllTasks() {
+        return taskService.getAllTasks(ownerId);
+    }
+
+    @Benchmark
+    public TaskPageDTO getTaskPage() {
+        return taskService.getTaskPage(ownerId, pageRequest);
+    }
+
+    @Benchmark
+    public TaskDTO updateTask() {
+        return taskService.updateTask(ownerId, update, taskId, null);
+    }
+
+    private static TaskDTO newTask(int i) {
+        TaskDTO task = new TaskDTO();
+        task.setTitle("Benchmark task " + i);
+        task.setDescription("Seeded by TaskServiceBenchmark");
+        task.setStatus(Task.TaskStatus.values()[Math.abs(i) % Task.TaskStatus.values().length]);
+        task.setPriority(Task.TaskPriority.values()[Math.abs(i) % Task.TaskPriority.values().length]);
+        task.setDueDate(LocalDate.now().plusDays(1 + Math.abs(i) % 60));
+        return task;
+    }
+}
@@ -1,46 +1,75 @@
 package io.hahnsoftware.backend.config;
 
+import io.hahnsoftware.backend.entity.User;
+import io.hahnsoftware.backend.metrics.TimedPasswordEncoder;
 import io.hahnsoftware.backend.repository.UserRepository;
+import io.hahnsoftware.backend.service.auth.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Duration;
+
 @Configuration
 @RequiredArgsConstructor
 public class ApplicationConfig {
     private final UserRepository userRepository;
+    private final MeterRegistry meterRegistry;
+
+    // Raising the strength rehashes each password on its next successful login
+    @Value("${auth.password.bcrypt-strength:10}")
+    private int bcryptStrength;
+    // Hashes running at once; further requests queue, then fail with 503
+    @Value("${auth.password.threads:2}")
+    private int hashThreads;
+    @Value("${auth.password.queue-capacity:64}")
+    private int hashQueueCapacity;
+    @Value("${auth.password.max-wait:5s}")
+    private Duration hashMaxWait;
 
     @Bean
     public UserDetailsService userDetailsService() {
-        return username -> userRepository.findByUsername(username)
-                .orElseThrow(()->new UsernameNotFoundException("User not found"));
+        Timer lookupTimer = Timer.builder("auth.user.lookup").register(meterRegistry);
+        return username -> lookupTimer.record(() -> userRepository.findByUsername(username)
+                .orElseThrow(()->new UsernameNotFoundException("User not found")));
     }
     @Bean
     public AuthenticationProvider authenticationProvider() {
         DaoAuthenticationProvider authenticationProvider = new DaoAuthenticationProvider();
         authenticationProvider.setUserDetailsService(userDetailsService());
         authenticationProvider.setPasswordEncoder(passwordEncoder());
+        authenticationProvider.setUserDetailsPasswordService(userDetailsPasswordService());
         return authenticationProvider;
     }
+    // Called after a successful login whose stored hash is weaker than bcryptStrength
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public UserDetailsPasswordService userDetailsPasswordService() {
+        return (userDetails, newPassword) -> {
+            User user = (User) userDetails;
+            userRepository.updatePassword(user.getId(), newPassword);
+            user.setPassword(newPassword);
+            return user;
+        };
+    }
+    @Bean(destroyMethod = "shutdown")
+    public BoundedPasswordEncoder passwordEncoder() {
+        PasswordEncoder bcrypt = new TimedPasswordEncoder(new BCryptPasswordEncoder(bcryptStrength), meterRegistry);
+        return new BoundedPasswordEncoder(bcrypt, hashThreads, hashQueueCapacity, hashMaxWait, meterRegistry);
     }
     @Bean
     public AuthenticationManager authenticationManager(AuthenticationConfiguration config) throws Exception {
         return config.getAuthenticationManager();
     }
-    @Bean
-    public ModelMapper modelMapper() {
-        return new ModelMapper();
-    }
 }
@@ -1,11 +1,16 @@
 package io.hahnsoftware.backend.config;
 
 import io.hahnsoftware.backend.dto.TaskDTO;
+import io.hahnsoftware.backend.entity.Role;
 import io.hahnsoftware.backend.entity.Task;
+import io.hahnsoftware.backend.entity.User;
+import io.hahnsoftware.backend.repository.UserRepository;
 import io.hahnsoftware.backend.service.TaskService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
@@ -17,9 +22,32 @@ public class DataInitializer implements CommandLineRunner {
 
     private final TaskService taskService;
 
+    private final UserRepository userRepository;
+
+    private final PasswordEncoder passwordEncoder;
+
+    // Tasks belong to a user, so the sample tasks are seeded for a demo account
+    @Value("${demo.user.email:demo@example.com}")
+    private String demoEmail;
+
+    @Value("${demo.user.password:demo1234}")
+    private String demoPassword;
+
     @Override
     public void run(String... args) throws Exception {
+        if (userRepository.findByEmail(demoEmail).isPresent()) {
+            log.info("Demo user {} already exists, skipping sample data", demoEmail);
+            return;
+        }
         log.info("Initializing sample data...");
+        User demo = new User();
+        demo.setFirstName("Demo");
+        demo.setLastName("User");
+        demo.setUsername("demo");
+        demo.setEmail(demoEmail);
+        demo.setPassword(passwordEncoder.encode(demoPassword));
+        demo.setRole(Role.USER);
+        Long ownerId = userRepository.save(demo).getId();
         
         // Create sample tasks
         TaskDTO task1 = new TaskDTO();
@@ -51,11 +79,11 @@ public class DataInitializer implements CommandLineRunner {
         task4.setDueDate(LocalDateTime.now().plusDays(1).toLocalDate());
         
         // Save tasks
-        taskService.addTask(task1);
-        taskService.addTask(task2);
-        taskService.addTask(task3);
-        taskService.addTask(task4);
+        taskService.addTask(ownerId, task1);
+        taskService.addTask(ownerId, task2);
+        taskService.addTask(ownerId, task3);
+        taskService.addTask(ownerId, task4);
         
-        log.info("Sample data initialized successfully!");
+        log.info("Sample data initialized successfully for {}!", demoEmail);
     }
 } 
\ No newline at end of file
@@ -0,0 +1,30 @@
+package io.hahnsoftware.backend.config;
+
+import io.hahnsoftware.backend.metrics.SqlStatsListener;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class MetricsConfig {
+
+    // Every statement goes through the proxy so requests can be charged with their SQL count and time
+    @Bean
+    public static BeanPostProcessor sqlStatsDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && "dataSource".equals(beanName)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name("dataSource")
+                            .listener(new SqlStatsListener())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
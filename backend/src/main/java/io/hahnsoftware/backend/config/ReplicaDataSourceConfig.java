@@ -0,0 +1,69 @@
+package io.hahnsoftware.backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.hahnsoftware.backend.datasource.ReadYourWrites;
+import io.hahnsoftware.backend.datasource.ReplicaRoutingDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+// Only active when replicas are configured; otherwise Spring Boot's single pooled DataSource is used
+@Configuration
+@ConditionalOnExpression("!'${db.replica.urls:}'.isBlank()")
+public class ReplicaDataSourceConfig {
+
+    @Value("${db.replica.urls}")
+    private List<String> replicaUrls;
+    @Value("${db.replica.username:${spring.datasource.username:}}")
+    private String replicaUsername;
+    @Value("${db.replica.password:${spring.datasource.password:}}")
+    private String replicaPassword;
+    @Value("${db.replica.sticky-window:5s}")
+    private Duration stickyWindow;
+
+    @Bean
+    public ReadYourWrites readYourWrites() {
+        return new ReadYourWrites(stickyWindow);
+    }
+
+    @Bean
+    public DataSource dataSource(DataSourceProperties properties, Environment environment, MeterRegistry meterRegistry) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        configure(primary, "primary", environment);
+
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (String url : replicaUrls) {
+            HikariDataSource replica = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(properties.determineDriverClassName())
+                    .url(url.trim())
+                    .username(replicaUsername)
+                    .password(replicaPassword)
+                    .build();
+            configure(replica, "replica-" + replicas.size(), environment);
+            replica.setReadOnly(true);
+            replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicas.add(replica);
+        }
+        return new ReplicaRoutingDataSource(primary, replicas, readYourWrites(), meterRegistry);
+    }
+
+    // Every pool takes the spring.datasource.hikari.* settings, as the auto-configured one would
+    private static void configure(HikariDataSource pool, String name, Environment environment) {
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+        pool.setPoolName(name);
+    }
+}
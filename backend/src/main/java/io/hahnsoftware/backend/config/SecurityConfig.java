@@ -1,7 +1,9 @@
 package io.hahnsoftware.backend.config;
 
 import io.hahnsoftware.backend.filter.JwtFilter;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationProvider;
@@ -27,6 +29,13 @@ public class SecurityConfig {
     private final JwtFilter jwtFilter;
     private final AuthenticationProvider authenticationProvider;
 
+    @Value("${server.port:8080}")
+    private int serverPort;
+
+    // Actuator endpoints are served here; it is meant for scrapers inside the network, not published
+    @Value("${management.server.port:-1}")
+    private int managementPort;
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity httpSecurity) throws Exception {
 
@@ -34,7 +43,9 @@ public class SecurityConfig {
                 .csrf(AbstractHttpConfigurer::disable)
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .authorizeHttpRequests(auth->auth
-                        .requestMatchers("/api/auth/**","/swagger-ui/**", "/v3/api-docs/**")
+                        .requestMatchers("/api/auth/**","/swagger-ui/**", "/v3/api-docs/**", "/actuator/health")
+                        .permitAll()
+                        .requestMatchers(this::onManagementPort)
                         .permitAll()
                         .anyRequest().authenticated())
                 .sessionManagement(session->session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
@@ -43,6 +54,11 @@ public class SecurityConfig {
                 .build();
     }
 
+    // Never true on the public port, even if both are configured the same
+    private boolean onManagementPort(HttpServletRequest request) {
+        return managementPort > 0 && managementPort != serverPort && request.getLocalPort() == managementPort;
+    }
+
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
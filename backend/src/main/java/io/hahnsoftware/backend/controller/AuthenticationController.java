@@ -4,7 +4,10 @@ package io.hahnsoftware.backend.controller;
 import io.hahnsoftware.backend.dto.AuthRequest;
 import io.hahnsoftware.backend.dto.AuthResponse;
 import io.hahnsoftware.backend.dto.UserDTO;
+import io.hahnsoftware.backend.metrics.SqlBudget;
 import io.hahnsoftware.backend.service.AuthenticationService;
+import io.hahnsoftware.backend.service.auth.LoginRateLimiter;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -18,15 +21,22 @@ public class AuthenticationController {
     
     @Autowired
     private AuthenticationService authenticationService;
+
+    @Autowired
+    private LoginRateLimiter loginRateLimiter;
     
     @PostMapping("/register")
-    public ResponseEntity<AuthResponse> register(@RequestBody UserDTO request) {
+    @SqlBudget(3)
+    public ResponseEntity<AuthResponse> register(@RequestBody UserDTO request, HttpServletRequest httpRequest) {
+        loginRateLimiter.check("register", httpRequest.getRemoteAddr(), request.getEmail());
         AuthResponse response = authenticationService.register(request);
         return ResponseEntity.ok(response);
     }
 
     @PostMapping("/login")
-    public ResponseEntity<AuthResponse> authenticate(@RequestBody AuthRequest request) {
+    @SqlBudget(3)
+    public ResponseEntity<AuthResponse> authenticate(@RequestBody AuthRequest request, HttpServletRequest httpRequest) {
+        loginRateLimiter.check("login", httpRequest.getRemoteAddr(), request.getEmail());
         AuthResponse response = authenticationService.authenticate(request);
         return ResponseEntity.ok(response);
     }
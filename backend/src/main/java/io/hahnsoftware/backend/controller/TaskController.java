@@ -1,19 +1,45 @@
 package io.hahnsoftware.backend.controller;
 
+import io.hahnsoftware.backend.dto.TaskBatchResultDTO;
+import io.hahnsoftware.backend.dto.TaskChangesDTO;
 import io.hahnsoftware.backend.dto.TaskDTO;
+import io.hahnsoftware.backend.dto.TaskListVersion;
+import io.hahnsoftware.backend.dto.TaskPageDTO;
+import io.hahnsoftware.backend.dto.TaskPageRequest;
+import io.hahnsoftware.backend.dto.TaskSearchPageDTO;
+import io.hahnsoftware.backend.dto.TaskStatsDTO;
+import io.hahnsoftware.backend.exception.PreconditionFailedException;
+import io.hahnsoftware.backend.metrics.SqlBudget;
+import io.hahnsoftware.backend.service.TaskArchiveService;
+import io.hahnsoftware.backend.service.TaskSearchService;
 import io.hahnsoftware.backend.service.TaskService;
+import io.hahnsoftware.backend.service.TaskStatsService;
+import io.hahnsoftware.backend.service.TaskStreamService;
+import io.hahnsoftware.backend.service.TaskSyncService;
+import io.hahnsoftware.backend.service.auth.AuthenticatedUser;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
 
 @Tag(name = "Task API", description = "Operations related to tasks")
+// Every endpoint works on the tasks owned by the authenticated user
 @RestController
 @RequestMapping("/api/tasks")
 @AllArgsConstructor
@@ -21,60 +47,240 @@ public class TaskController {
     
     @Autowired
     private TaskService taskService;
+
+    @Autowired
+    private TaskSearchService taskSearchService;
+
+    @Autowired
+    private TaskStatsService taskStatsService;
+
+    @Autowired
+    private TaskSyncService taskSyncService;
+
+    @Autowired
+    private TaskStreamService taskStreamService;
+
+    @Autowired
+    private TaskArchiveService taskArchiveService;
     
     @Operation(summary = "Create a new task")
     @PostMapping
-    public ResponseEntity<TaskDTO> addTask(@Valid @RequestBody TaskDTO taskDTO) {
-        TaskDTO savedTaskDto = taskService.addTask(taskDTO);
+    @SqlBudget(3)
+    public ResponseEntity<TaskDTO> addTask(@AuthenticationPrincipal AuthenticatedUser user,
+                                           @Valid @RequestBody TaskDTO taskDTO) {
+        TaskDTO savedTaskDto = taskService.addTask(user.id(), taskDTO);
         return new ResponseEntity<>(savedTaskDto, HttpStatus.CREATED);
     }
 
     @Operation(summary = "Get task by ID")
     @GetMapping("{id}")
-    public ResponseEntity<TaskDTO> getTask(@PathVariable("id") Long id) {
-        TaskDTO taskDTO = taskService.getTask(id);
+    @SqlBudget(1)
+    public ResponseEntity<TaskDTO> getTask(@AuthenticationPrincipal AuthenticatedUser user, @PathVariable("id") Long id,
+                                           WebRequest webRequest) {
+        TaskDTO taskDTO = taskService.getTask(user.id(), id);
+        if (webRequest.checkNotModified(eTag(taskDTO), toEpochMilli(taskDTO.getUpdatedAt()))) {
+            return null;
+        }
         return new ResponseEntity<>(taskDTO, HttpStatus.OK);
     }
 
     @Operation(summary = "Get all tasks")
     @GetMapping
-    public ResponseEntity<List<TaskDTO>> getAllTasks() {
-        List<TaskDTO> taskDTOS = taskService.getAllTasks();
+    @SqlBudget(3)
+    public ResponseEntity<List<TaskDTO>> getAllTasks(@AuthenticationPrincipal AuthenticatedUser user,
+                                                     WebRequest webRequest) {
+        // Validators are read before the tasks so a concurrent change can only make them stale, never the body
+        TaskListVersion version = taskSyncService.getListVersion(user.id());
+        if (webRequest.checkNotModified(version.eTag(), toEpochMilli(version.lastModified()))) {
+            return null;
+        }
+        List<TaskDTO> taskDTOS = taskService.getAllTasks(user.id());
         return new ResponseEntity<>(taskDTOS, HttpStatus.OK);
     }
 
+    @Operation(summary = "Get tasks changed and ids deleted after a point in time")
+    @GetMapping("/changes")
+    @SqlBudget(2)
+    public ResponseEntity<TaskChangesDTO> getChanges(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @RequestParam("since") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since) {
+        TaskChangesDTO changes = taskSyncService.getChangesSince(user.id(), since);
+        return new ResponseEntity<>(changes, HttpStatus.OK);
+    }
+
+    @Operation(summary = "Get a page of tasks using keyset pagination")
+    @GetMapping("/page")
+    @SqlBudget(1)
+    public ResponseEntity<TaskPageDTO> getTaskPage(@AuthenticationPrincipal AuthenticatedUser user,
+                                                   @ParameterObject TaskPageRequest request) {
+        TaskPageDTO page = taskService.getTaskPage(user.id(), request);
+        return new ResponseEntity<>(page, HttpStatus.OK);
+    }
+
+    @Operation(summary = "Get a page of archived tasks, most recently closed first")
+    @GetMapping("/archived")
+    @SqlBudget(1)
+    public ResponseEntity<TaskPageDTO> getArchivedTasks(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        TaskPageDTO page = taskArchiveService.getArchivedTasks(user.id(), cursor, size);
+        return new ResponseEntity<>(page, HttpStatus.OK);
+    }
+
+    @Operation(summary = "Full-text search over task title and description")
+    @GetMapping("/search")
+    @SqlBudget(1)
+    public ResponseEntity<TaskSearchPageDTO> searchTasks(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @RequestParam("q") String query,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        TaskSearchPageDTO results = taskSearchService.search(user.id(), query, page, size);
+        return new ResponseEntity<>(results, HttpStatus.OK);
+    }
+
+    @Operation(summary = "Get task counts, overdue total, completion histogram and lead time")
+    @GetMapping("/stats")
+    @SqlBudget(4)
+    public ResponseEntity<TaskStatsDTO> getTaskStats(@AuthenticationPrincipal AuthenticatedUser user,
+                                                     @RequestParam(value = "days", defaultValue = "30") int days) {
+        TaskStatsDTO stats = taskStatsService.getStats(user.id(), days);
+        return new ResponseEntity<>(stats, HttpStatus.OK);
+    }
+
+    @Operation(summary = "Subscribe to task changes as Server-Sent Events")
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @SqlBudget(0)
+    public SseEmitter streamTasks(@AuthenticationPrincipal AuthenticatedUser user) {
+        return taskStreamService.subscribe(user.id());
+    }
+
+    @Operation(summary = "Export all tasks as newline-delimited JSON")
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> exportTasks(@AuthenticationPrincipal AuthenticatedUser user) {
+        Long ownerId = user.id();
+        StreamingResponseBody body = outputStream -> taskService.exportTasks(ownerId, outputStream);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"tasks.ndjson\"")
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
+    }
+
     @Operation(summary = "Get tasks by status")
     @GetMapping("/status/{status}")
-    public ResponseEntity<List<TaskDTO>> getTasksByStatus(@PathVariable("status") String status) {
-        List<TaskDTO> taskDTOS = taskService.getTasksByStatus(status);
+    @SqlBudget(1)
+    public ResponseEntity<List<TaskDTO>> getTasksByStatus(@AuthenticationPrincipal AuthenticatedUser user,
+                                                          @PathVariable("status") String status) {
+        List<TaskDTO> taskDTOS = taskService.getTasksByStatus(user.id(), status);
         return new ResponseEntity<>(taskDTOS, HttpStatus.OK);
     }
 
     @Operation(summary = "Get tasks by priority")
     @GetMapping("/priority/{priority}")
-    public ResponseEntity<List<TaskDTO>> getTasksByPriority(@PathVariable("priority") String priority) {
-        List<TaskDTO> taskDTOS = taskService.getTasksByPriority(priority);
+    @SqlBudget(1)
+    public ResponseEntity<List<TaskDTO>> getTasksByPriority(@AuthenticationPrincipal AuthenticatedUser user,
+                                                            @PathVariable("priority") String priority) {
+        List<TaskDTO> taskDTOS = taskService.getTasksByPriority(user.id(), priority);
         return new ResponseEntity<>(taskDTOS, HttpStatus.OK);
     }
 
     @Operation(summary = "Update an existing task")
     @PutMapping("{id}")
-    public ResponseEntity<TaskDTO> updateTask(@Valid @RequestBody TaskDTO taskDTO, @PathVariable("id") Long id) {
-        TaskDTO updatedTask = taskService.updateTask(taskDTO, id);
-        return new ResponseEntity<>(updatedTask, HttpStatus.OK);
+    @SqlBudget(3)
+    public ResponseEntity<TaskDTO> updateTask(@AuthenticationPrincipal AuthenticatedUser user,
+                                              @Valid @RequestBody TaskDTO taskDTO, @PathVariable("id") Long id,
+                                              @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        TaskDTO updatedTask = taskService.updateTask(user.id(), taskDTO, id, expectedVersion(ifMatch, id));
+        return ResponseEntity.ok().eTag(eTag(updatedTask)).body(updatedTask);
     }
 
     @Operation(summary = "Mark task as completed")
     @PatchMapping("{id}/complete")
-    public ResponseEntity<TaskDTO> markTaskAsCompleted(@PathVariable("id") Long id) {
-        TaskDTO completedTask = taskService.markTaskAsCompleted(id);
-        return new ResponseEntity<>(completedTask, HttpStatus.OK);
+    @SqlBudget(3)
+    public ResponseEntity<TaskDTO> markTaskAsCompleted(@AuthenticationPrincipal AuthenticatedUser user,
+                                                       @PathVariable("id") Long id,
+                                                       @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        TaskDTO completedTask = taskService.markTaskAsCompleted(user.id(), id, expectedVersion(ifMatch, id));
+        // Queued by the write-behind mode: accepted, but the new version is not known yet
+        if (completedTask.getVersion() == null) {
+            return ResponseEntity.accepted().body(completedTask);
+        }
+        return ResponseEntity.ok().eTag(eTag(completedTask)).body(completedTask);
     }
 
     @Operation(summary = "Delete task by ID")
     @DeleteMapping("{id}")
-    public ResponseEntity<String> deleteTask(@PathVariable("id") Long id) {
-        taskService.deleteTask(id);
+    @SqlBudget(3)
+    public ResponseEntity<String> deleteTask(@AuthenticationPrincipal AuthenticatedUser user,
+                                             @PathVariable("id") Long id,
+                                             @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        taskService.deleteTask(user.id(), id, expectedVersion(ifMatch, id));
         return ResponseEntity.ok("Task deleted successfully !");
     }
-} 
\ No newline at end of file
+
+    @Operation(summary = "Create tasks in one transaction")
+    @PostMapping("/batch")
+    @SqlBudget(50)
+    public ResponseEntity<List<TaskBatchResultDTO>> addTasks(@AuthenticationPrincipal AuthenticatedUser user,
+                                                             @RequestBody List<TaskDTO> taskDTOs) {
+        List<TaskBatchResultDTO> results = taskService.addTasks(user.id(), taskDTOs);
+        return new ResponseEntity<>(results, HttpStatus.OK);
+    }
+
+    @Operation(summary = "Update tasks in one transaction")
+    @PutMapping("/batch")
+    @SqlBudget(30)
+    public ResponseEntity<List<TaskBatchResultDTO>> updateTasks(@AuthenticationPrincipal AuthenticatedUser user,
+                                                                @RequestBody List<TaskDTO> taskDTOs) {
+        List<TaskBatchResultDTO> results = taskService.updateTasks(user.id(), taskDTOs);
+        return new ResponseEntity<>(results, HttpStatus.OK);
+    }
+
+    @Operation(summary = "Mark tasks as completed in one transaction")
+    @PatchMapping("/batch/complete")
+    @SqlBudget(30)
+    public ResponseEntity<List<TaskBatchResultDTO>> markTasksAsCompleted(@AuthenticationPrincipal AuthenticatedUser user,
+                                                                         @RequestBody List<Long> ids) {
+        List<TaskBatchResultDTO> results = taskService.markTasksAsCompleted(user.id(), ids);
+        return new ResponseEntity<>(results, HttpStatus.OK);
+    }
+
+    @Operation(summary = "Delete tasks in one transaction")
+    @PostMapping("/batch/delete")
+    @SqlBudget(30)
+    public ResponseEntity<List<TaskBatchResultDTO>> deleteTasks(@AuthenticationPrincipal AuthenticatedUser user,
+                                                                @RequestBody List<Long> ids) {
+        List<TaskBatchResultDTO> results = taskService.deleteTasks(user.id(), ids);
+        return new ResponseEntity<>(results, HttpStatus.OK);
+    }
+
+    private static String eTag(TaskDTO taskDTO) {
+        return "\"" + taskDTO.getId() + "-" + taskDTO.getVersion() + "\"";
+    }
+
+    // Accepts an ETag previously returned for this task, or * for any version
+    private static Long expectedVersion(String ifMatch, Long id) {
+        if (ifMatch == null || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String value = ifMatch.trim();
+        if (value.startsWith("W/")) {
+            value = value.substring(2);
+        }
+        value = value.replace("\"", "");
+        String prefix = id + "-";
+        if (!value.startsWith(prefix)) {
+            throw new PreconditionFailedException("If-Match does not refer to task " + id);
+        }
+        try {
+            return Long.parseLong(value.substring(prefix.length()));
+        } catch (NumberFormatException e) {
+            throw new PreconditionFailedException("Malformed If-Match: " + ifMatch);
+        }
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime == null ? -1 : dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,42 @@
+package io.hahnsoftware.backend.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.hahnsoftware.backend.event.TaskChangedEvent;
+import io.hahnsoftware.backend.service.auth.AuthenticatedUser;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * Remembers which users changed tasks recently. Their reads stay on the primary for {@code window},
+ * long enough for the replicas to catch up, so nobody reads a list that is missing their own change.
+ */
+public class ReadYourWrites {
+
+    private static final long MAX_TRACKED_USERS = 100_000;
+
+    private final Cache<Long, Boolean> recentWriters;
+
+    public ReadYourWrites(Duration window) {
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(MAX_TRACKED_USERS)
+                .expireAfterWrite(window)
+                .build();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        recentWriters.put(event.ownerId(), Boolean.TRUE);
+    }
+
+    // Work outside a request (no authenticated user) may always read from a replica
+    public boolean requiresPrimary() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null
+                && authentication.getPrincipal() instanceof AuthenticatedUser user
+                && recentWriters.getIfPresent(user.id()) != null;
+    }
+}
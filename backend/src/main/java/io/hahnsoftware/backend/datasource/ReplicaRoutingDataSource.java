@@ -0,0 +1,73 @@
+package io.hahnsoftware.backend.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import java.io.Closeable;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends read-only transactions to the replicas (round robin) and everything else to the primary.
+ * The physical connection is only taken at the first statement, when the transaction's read-only flag is
+ * known; a transaction that never reaches the database (a cache hit) takes no connection at all.
+ */
+public class ReplicaRoutingDataSource extends LazyConnectionDataSourceProxy implements Closeable {
+
+    private static final String PRIMARY = "primary";
+
+    private final HikariDataSource primary;
+    private final List<HikariDataSource> replicas;
+
+    public ReplicaRoutingDataSource(HikariDataSource primary, List<HikariDataSource> replicas,
+                                    ReadYourWrites readYourWrites, MeterRegistry meterRegistry) {
+        super(primary);
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        setReadOnlyDataSource(new ReadRouter(readYourWrites, meterRegistry));
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(HikariDataSource::close);
+        primary.close();
+    }
+
+    private class ReadRouter extends AbstractRoutingDataSource {
+
+        private final ReadYourWrites readYourWrites;
+        private final AtomicInteger next = new AtomicInteger();
+        private final Counter primaryReads;
+        private final Counter replicaReads;
+
+        ReadRouter(ReadYourWrites readYourWrites, MeterRegistry meterRegistry) {
+            this.readYourWrites = readYourWrites;
+            this.primaryReads = Counter.builder("db.reads").tag("target", "primary").register(meterRegistry);
+            this.replicaReads = Counter.builder("db.reads").tag("target", "replica").register(meterRegistry);
+            Map<Object, Object> targets = new HashMap<>();
+            targets.put(PRIMARY, primary);
+            for (int i = 0; i < replicas.size(); i++) {
+                targets.put(i, replicas.get(i));
+            }
+            setTargetDataSources(targets);
+            setDefaultTargetDataSource(primary);
+            setLenientFallback(false);
+            afterPropertiesSet();
+        }
+
+        @Override
+        protected Object determineCurrentLookupKey() {
+            if (readYourWrites.requiresPrimary()) {
+                primaryReads.increment();
+                return PRIMARY;
+            }
+            replicaReads.increment();
+            return Math.floorMod(next.getAndIncrement(), replicas.size());
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package io.hahnsoftware.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskBatchResultDTO {
+    // Position of the item in the request
+    private int index;
+
+    private Long id;
+
+    private Outcome outcome;
+
+    private String message;
+
+    private TaskDTO task;
+
+    public enum Outcome {
+        CREATED, UPDATED, COMPLETED, DELETED, NOT_FOUND, INVALID, CONFLICT
+    }
+}
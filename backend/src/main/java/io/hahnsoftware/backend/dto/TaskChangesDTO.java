@@ -0,0 +1,24 @@
+package io.hahnsoftware.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskChangesDTO {
+    // Tasks created or updated after since, oldest change first
+    private List<TaskDTO> changed;
+
+    private List<Long> deleted;
+
+    // Pass as since on the next call
+    private LocalDateTime until;
+
+    // The replica is too far behind (tombstones purged or too many changes); reload all tasks
+    private boolean resetRequired;
+}
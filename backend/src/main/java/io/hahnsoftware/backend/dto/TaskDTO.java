@@ -38,4 +38,7 @@ public class TaskDTO {
     private LocalDateTime updatedAt;
     
     private LocalDateTime completedAt;
+
+    // Managed by the server, ignored on create and update
+    private Long version;
 } 
\ No newline at end of file
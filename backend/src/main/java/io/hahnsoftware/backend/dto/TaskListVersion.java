@@ -0,0 +1,7 @@
+package io.hahnsoftware.backend.dto;
+
+import java.time.LocalDateTime;
+
+// Validators for conditional GET of the task list
+public record TaskListVersion(String eTag, LocalDateTime lastModified) {
+}
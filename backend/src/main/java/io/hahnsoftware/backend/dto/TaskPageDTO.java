@@ -0,0 +1,18 @@
+package io.hahnsoftware.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskPageDTO {
+    private List<TaskDTO> items;
+
+    private String nextCursor;
+
+    private boolean hasMore;
+}
@@ -0,0 +1,36 @@
+package io.hahnsoftware.backend.dto;
+
+import io.hahnsoftware.backend.entity.Task;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskPageRequest {
+    private List<Task.TaskStatus> status;
+
+    private List<Task.TaskPriority> priority;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate dueAfter;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate dueBefore;
+
+    // updatedAt or dueDate
+    private String sort = "updatedAt";
+
+    // asc or desc
+    private String direction = "desc";
+
+    // Opaque cursor returned as nextCursor by the previous page
+    private String cursor;
+
+    private int size = 20;
+}
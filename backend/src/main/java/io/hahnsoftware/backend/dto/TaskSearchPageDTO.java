@@ -0,0 +1,21 @@
+package io.hahnsoftware.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskSearchPageDTO {
+    // Best matches first
+    private List<TaskDTO> items;
+
+    private int page;
+
+    private int size;
+
+    private boolean hasMore;
+}
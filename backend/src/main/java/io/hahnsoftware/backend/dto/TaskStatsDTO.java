@@ -0,0 +1,30 @@
+package io.hahnsoftware.backend.dto;
+
+import io.hahnsoftware.backend.entity.Task;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskStatsDTO {
+    private long total;
+
+    private Map<Task.TaskStatus, Map<Task.TaskPriority, Long>> countsByStatusAndPriority;
+
+    // Open tasks whose due date has passed
+    private long overdue;
+
+    // Completed tasks per day over the requested window, days without completions included
+    private Map<LocalDate, Long> completedPerDay;
+
+    // Average time from creation to completion, null when nothing was completed
+    private Double averageLeadTimeHours;
+
+    private LocalDateTime generatedAt;
+}
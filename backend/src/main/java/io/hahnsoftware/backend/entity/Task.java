@@ -5,6 +5,8 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -12,14 +14,28 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "tasks")
+// Every query is scoped to one owner, so each index leads with owner_id and a user's listing cost
+// depends on their own tasks only
+@Table(name = "tasks", indexes = {
+        @Index(name = "idx_tasks_owner_id_id", columnList = "owner_id, id"),
+        @Index(name = "idx_tasks_owner_updated_at_id", columnList = "owner_id, updated_at, id"),
+        @Index(name = "idx_tasks_owner_due_date_id", columnList = "owner_id, due_date, id"),
+        @Index(name = "idx_tasks_owner_status_updated_at_id", columnList = "owner_id, status, updated_at, id"),
+        @Index(name = "idx_tasks_owner_status_due_date_id", columnList = "owner_id, status, due_date, id"),
+        @Index(name = "idx_tasks_owner_priority_updated_at_id", columnList = "owner_id, priority, updated_at, id")
+})
+// Second-level cached; bulk UPDATE/DELETE statements invalidate the whole region, entity writes only their entry
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 public class Task {
+    // Pooled sequence ids let Hibernate batch inserts, unlike IDENTITY
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_seq")
+    @SequenceGenerator(name = "tasks_seq", sequenceName = "tasks_seq", allocationSize = 50)
     private Long id;
     
     @Column(name = "title", nullable = false)
@@ -49,6 +65,17 @@ public class Task {
     
     @Column(name = "completed_at")
     private LocalDateTime completedAt;
+
+    // Bumped on every update; drives ETags, change detection and optimistic locking
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    // Set once on create; only the owner id is ever read, so the user row is not loaded
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "owner_id", nullable = false, updatable = false,
+            foreignKey = @ForeignKey(name = "fk_tasks_owner"))
+    private User owner;
     
     public enum TaskStatus {
         TODO, IN_PROGRESS, REVIEW, COMPLETED, CANCELLED
@@ -0,0 +1,31 @@
+package io.hahnsoftware.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// Marks a deleted task so delta sync clients can drop it from their replica
+@Entity
+@Table(name = "task_tombstones", indexes = {
+        @Index(name = "idx_task_tombstones_deleted_at", columnList = "deleted_at"),
+        @Index(name = "idx_task_tombstones_owner_deleted_at", columnList = "owner_id, deleted_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskTombstone {
+    @Id
+    @Column(name = "task_id")
+    private Long taskId;
+
+    @Column(name = "owner_id", nullable = false)
+    private Long ownerId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+}
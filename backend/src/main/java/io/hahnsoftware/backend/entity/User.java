@@ -1,6 +1,7 @@
 package io.hahnsoftware.backend.entity;
 
 import jakarta.persistence.*;
+import io.hahnsoftware.backend.service.auth.AuthenticatedUserCacheListener;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -17,6 +18,7 @@ import java.util.List;
 
 @Entity
 @Table(name = "_user")
+@EntityListeners(AuthenticatedUserCacheListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,37 @@
+package io.hahnsoftware.backend.event;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.hahnsoftware.backend.dto.TaskDTO;
+
+/**
+ * Published by the task service for every mutation; listeners usually react after commit.
+ * {@code task} is the state after the change and is null for deletions and archivals. {@code ownerId} routes the
+ * change to its owner's subscribers and is not sent to clients.
+ */
+public record TaskChangedEvent(Type type, Long taskId, TaskDTO task, @JsonIgnore Long ownerId) {
+
+    public enum Type {
+        CREATED, UPDATED, COMPLETED, DELETED, ARCHIVED
+    }
+
+    public static TaskChangedEvent created(Long ownerId, TaskDTO task) {
+        return new TaskChangedEvent(Type.CREATED, task.getId(), task, ownerId);
+    }
+
+    public static TaskChangedEvent updated(Long ownerId, TaskDTO task) {
+        return new TaskChangedEvent(Type.UPDATED, task.getId(), task, ownerId);
+    }
+
+    public static TaskChangedEvent completed(Long ownerId, TaskDTO task) {
+        return new TaskChangedEvent(Type.COMPLETED, task.getId(), task, ownerId);
+    }
+
+    public static TaskChangedEvent deleted(Long ownerId, Long taskId) {
+        return new TaskChangedEvent(Type.DELETED, taskId, null, ownerId);
+    }
+
+    // Moved to the archive: gone from every task listing, but still readable through the archive
+    public static TaskChangedEvent archived(Long ownerId, Long taskId) {
+        return new TaskChangedEvent(Type.ARCHIVED, taskId, null, ownerId);
+    }
+}
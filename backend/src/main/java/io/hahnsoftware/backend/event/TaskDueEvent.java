@@ -0,0 +1,14 @@
+package io.hahnsoftware.backend.event;
+
+import java.time.LocalDate;
+
+/**
+ * Published by the due date scheduler for open tasks: {@code DUE_SOON} at the start of the reminder day,
+ * {@code OVERDUE} at the start of the day after the due date.
+ */
+public record TaskDueEvent(Type type, Long taskId, Long ownerId, LocalDate dueDate) {
+
+    public enum Type {
+        DUE_SOON, OVERDUE
+    }
+}
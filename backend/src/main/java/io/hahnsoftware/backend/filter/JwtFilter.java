@@ -1,30 +1,49 @@
 package io.hahnsoftware.backend.filter;
 
+import io.hahnsoftware.backend.entity.User;
+import io.hahnsoftware.backend.service.auth.AuthenticatedUser;
+import io.hahnsoftware.backend.service.auth.AuthenticatedUserCache;
 import io.hahnsoftware.backend.service.auth.JwtService;
+import io.jsonwebtoken.Claims;
 import io.micrometer.common.lang.NonNull;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 @Component
-@RequiredArgsConstructor
 public class JwtFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     
     private final UserDetailsService userDetailsService;
+
+    private final AuthenticatedUserCache authenticatedUserCache;
+
+    private final Timer validTokenTimer;
+
+    private final Timer invalidTokenTimer;
+
+    public JwtFilter(JwtService jwtService, UserDetailsService userDetailsService,
+                     AuthenticatedUserCache authenticatedUserCache, MeterRegistry meterRegistry) {
+        this.jwtService = jwtService;
+        this.userDetailsService = userDetailsService;
+        this.authenticatedUserCache = authenticatedUserCache;
+        this.validTokenTimer = Timer.builder("auth.jwt.verify").tag("result", "valid").register(meterRegistry);
+        this.invalidTokenTimer = Timer.builder("auth.jwt.verify").tag("result", "invalid").register(meterRegistry);
+    }
     
     @Override
     protected void doFilterInternal(
@@ -39,24 +58,33 @@ public class JwtFilter extends OncePerRequestFilter {
             return;
         }
 
+        long start = System.nanoTime();
         try {
             String token = authHeader.substring(7);
-            String username = jwtService.extractUsername(token);
+            // Signature and expiration are verified once here; invalid tokens throw
+            Claims claims = jwtService.verifyToken(token);
+            String username = claims.getSubject();
             
             Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
             if (username != null && authentication == null) {
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+                AuthenticatedUser user = jwtService.toAuthenticatedUser(claims);
+                if (user == null) {
+                    // Tokens issued before id and role claims existed still need a lookup
+                    user = AuthenticatedUser.from((User) userDetailsService.loadUserByUsername(username));
+                }
 
-                if (jwtService.isTokenValid(token, userDetails)) {
+                if (!authenticatedUserCache.isEnabled() || authenticatedUserCache.isCurrent(user)) {
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                            userDetails, null, userDetails.getAuthorities()
+                            user, null, user.getAuthorities()
                     );
                     authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                     SecurityContextHolder.getContext().setAuthentication(authToken);
                 }
             }
+            validTokenTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
         } catch (Exception e) {
             // Silent exception handling
+            invalidTokenTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
         }
 
         filterChain.doFilter(request, response);
@@ -0,0 +1,60 @@
+package io.hahnsoftware.backend.mapper;
+
+import io.hahnsoftware.backend.dto.TaskDTO;
+import io.hahnsoftware.backend.entity.Task;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+public class TaskMapper {
+
+    // Timed per list: a single conversion is cheaper than recording it
+    private final Timer listTimer;
+
+    public TaskMapper(MeterRegistry meterRegistry) {
+        this.listTimer = Timer.builder("task.mapper.conversion").tag("operation", "toDtoList").register(meterRegistry);
+    }
+
+    public TaskDTO toDto(Task task) {
+        return new TaskDTO(
+                task.getId(),
+                task.getTitle(),
+                task.getDescription(),
+                task.getStatus(),
+                task.getPriority(),
+                task.getDueDate(),
+                task.getCreatedAt(),
+                task.getUpdatedAt(),
+                task.getCompletedAt(),
+                task.getVersion());
+    }
+
+    public List<TaskDTO> toDtoList(List<Task> tasks) {
+        return listTimer.record(() -> {
+            List<TaskDTO> dtos = new ArrayList<>(tasks.size());
+            for (Task task : tasks) {
+                dtos.add(toDto(task));
+            }
+            return dtos;
+        });
+    }
+
+    public Task toEntity(TaskDTO taskDTO) {
+        Task task = new Task();
+        task.setId(taskDTO.getId());
+        task.setTitle(taskDTO.getTitle());
+        task.setDescription(taskDTO.getDescription());
+        task.setStatus(taskDTO.getStatus());
+        task.setPriority(taskDTO.getPriority());
+        task.setDueDate(taskDTO.getDueDate());
+        task.setCreatedAt(taskDTO.getCreatedAt());
+        task.setUpdatedAt(taskDTO.getUpdatedAt());
+        task.setCompletedAt(taskDTO.getCompletedAt());
+        // Version stays server-managed
+        return task;
+    }
+}
@@ -0,0 +1,29 @@
+package io.hahnsoftware.backend.mapper;
+
+import io.hahnsoftware.backend.dto.UserDTO;
+import io.hahnsoftware.backend.entity.User;
+import org.springframework.stereotype.Component;
+
+@Component
+public class UserMapper {
+
+    // The password hash is never copied back to a DTO
+    public UserDTO toDto(User user) {
+        return new UserDTO(
+                user.getFirstName(),
+                user.getLastName(),
+                user.getUsername(),
+                user.getEmail(),
+                null);
+    }
+
+    // The raw password is left for the caller to encode
+    public User toEntity(UserDTO userDTO) {
+        User user = new User();
+        user.setFirstName(userDTO.getFirstName());
+        user.setLastName(userDTO.getLastName());
+        user.setUsername(userDTO.getUsername());
+        user.setEmail(userDTO.getEmail());
+        return user;
+    }
+}
@@ -0,0 +1,111 @@
+package io.hahnsoftware.backend.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the SQL statements and database time of each request, tagged like http.server.requests, and checks
+ * them against the endpoint's {@link SqlBudget}. Runs outside the security filters so token-to-user lookups
+ * are counted too.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    public enum BudgetMode {
+        OFF, LOG, FAIL
+    }
+
+    @Value("${sql.budget.default:10}")
+    private int defaultBudget = 10;
+
+    // fail is meant for tests: the request still completes, then the filter throws
+    @Value("${sql.budget.mode:log}")
+    private BudgetMode budgetMode = BudgetMode.LOG;
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestSqlStats.reset();
+        RequestSqlStats stats = RequestSqlStats.current();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            record(request, stats);
+        }
+        // Only after a normal return: a failing handler's exception must not be replaced by a budget error
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern != null) {
+            checkBudget(request, pattern.toString(), stats);
+        }
+    }
+
+    private void record(HttpServletRequest request, RequestSqlStats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+        DistributionSummary.builder("http.server.requests.sql.statements")
+                .baseUnit("statements")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(stats.getStatements());
+        Timer.builder("http.server.requests.sql.time")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(stats.getNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    private void checkBudget(HttpServletRequest request, String uri, RequestSqlStats stats) {
+        if (budgetMode == BudgetMode.OFF) {
+            return;
+        }
+        int budget = budget(request);
+        if (stats.getStatements() <= budget) {
+            return;
+        }
+        Counter.builder("http.server.requests.sql.budget.exceeded")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .increment();
+        String message = request.getMethod() + " " + uri + " issued " + stats.getStatements()
+                + " SQL statements, budget is " + budget;
+        if (budgetMode == BudgetMode.FAIL) {
+            throw new IllegalStateException(message);
+        }
+        log.warn(message);
+    }
+
+    private int budget(HttpServletRequest request) {
+        if (request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handler) {
+            SqlBudget annotation = handler.getMethodAnnotation(SqlBudget.class);
+            if (annotation != null) {
+                return annotation.value();
+            }
+        }
+        return defaultBudget;
+    }
+}
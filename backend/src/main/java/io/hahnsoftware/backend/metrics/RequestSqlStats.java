@@ -0,0 +1,38 @@
+package io.hahnsoftware.backend.metrics;
+
+/**
+ * SQL statements executed and time spent in the database by the current request thread.
+ */
+public final class RequestSqlStats {
+
+    private static final ThreadLocal<RequestSqlStats> CURRENT = ThreadLocal.withInitial(RequestSqlStats::new);
+
+    private int statements;
+    private long nanos;
+
+    private RequestSqlStats() {
+    }
+
+    public static RequestSqlStats current() {
+        return CURRENT.get();
+    }
+
+    public static void reset() {
+        RequestSqlStats stats = CURRENT.get();
+        stats.statements = 0;
+        stats.nanos = 0;
+    }
+
+    void record(long elapsedNanos) {
+        statements++;
+        nanos += elapsedNanos;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getNanos() {
+        return nanos;
+    }
+}
@@ -1,14 +1,158 @@
 package io.hahnsoftware.backend.repository;
 
 import io.hahnsoftware.backend.entity.Task;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
-public interface TaskRepository extends JpaRepository<Task, Long> {
-    List<Task> findByStatus(Task.TaskStatus status);
-    List<Task> findByPriority(Task.TaskPriority priority);
-    List<Task> findByDueDateBefore(LocalDateTime date);
-    List<Task> findByTitleContainingIgnoreCase(String title);
-} 
\ No newline at end of file
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task> {
+    int EXPORT_FETCH_SIZE = 500;
+
+    // Queries take the owner id first; owner.id resolves to the owner_id column without a join
+    List<Task> findByOwnerId(Long ownerId);
+    List<Task> findByOwnerIdAndStatus(Long ownerId, Task.TaskStatus status);
+    List<Task> findByOwnerIdAndPriority(Long ownerId, Task.TaskPriority priority);
+    boolean existsByIdAndOwnerId(Long id, Long ownerId);
+
+    // PostgreSQL only: relies on the generated search_vector column and its GIN index
+    @Query(value = """
+            SELECT t.* FROM tasks t, websearch_to_tsquery('english', :query) q
+            WHERE t.owner_id = :ownerId AND t.search_vector @@ q
+            ORDER BY ts_rank(t.search_vector, q) DESC, t.id
+            LIMIT :limit OFFSET :offset""", nativeQuery = true)
+    List<Task> searchFullText(@Param("ownerId") Long ownerId, @Param("query") String query,
+                              @Param("limit") int limit, @Param("offset") int offset);
+
+    // The stats queries below also count the owner's archived tasks (task_archive), which are all closed
+    @Query(value = """
+            select status, priority, count(*) as count from (
+                select status, priority from tasks where owner_id = :ownerId
+                union all
+                select status, priority from task_archive where owner_id = :ownerId) t
+            group by status, priority""", nativeQuery = true)
+    List<StatusPriorityCount> countByStatusAndPriority(@Param("ownerId") Long ownerId);
+
+    // Closed statuses are literals, not parameters, so PostgreSQL can match the open-task partial index
+    @Query("""
+            select count(t) from Task t where t.owner.id = :ownerId and t.dueDate < :today
+            and t.status not in (io.hahnsoftware.backend.entity.Task.TaskStatus.COMPLETED,
+                                 io.hahnsoftware.backend.entity.Task.TaskStatus.CANCELLED)""")
+    long countOverdue(@Param("ownerId") Long ownerId, @Param("today") LocalDate today);
+
+    // closed_at >= :since limits the archive side to the partitions of the window
+    @Query(value = """
+            select cast(completed_at as date) as "day", count(*) as count from (
+                select completed_at from tasks where owner_id = :ownerId and completed_at >= :since
+                union all
+                select completed_at from task_archive
+                where owner_id = :ownerId and closed_at >= :since and completed_at >= :since) t
+            group by cast(completed_at as date)""", nativeQuery = true)
+    List<DayCount> countCompletedPerDay(@Param("ownerId") Long ownerId, @Param("since") LocalDateTime since);
+
+    @Query(value = """
+            select avg(extract(epoch from completed_at) - extract(epoch from created_at)) from (
+                select created_at, completed_at from tasks where owner_id = :ownerId and completed_at is not null
+                union all
+                select created_at, completed_at from task_archive
+                where owner_id = :ownerId and completed_at is not null) t""", nativeQuery = true)
+    Double averageLeadTimeSeconds(@Param("ownerId") Long ownerId);
+
+    @Query("""
+            select count(t) as count, max(t.updatedAt) as lastModified, coalesce(sum(t.version), 0) as versionSum
+            from Task t where t.owner.id = :ownerId""")
+    ListSummary summarize(@Param("ownerId") Long ownerId);
+
+    @Query("""
+            select t from Task t
+            where t.owner.id = :ownerId and t.updatedAt > :since and t.updatedAt <= :until
+            order by t.updatedAt, t.id""")
+    List<Task> findChangedBetween(@Param("ownerId") Long ownerId, @Param("since") LocalDateTime since,
+                                  @Param("until") LocalDateTime until, Limit limit);
+
+    // Single-statement mutations; callers check the affected row count
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update Task t set t.status = :status, t.completedAt = :now, t.updatedAt = :now, t.version = t.version + 1
+            where t.id = :id and t.owner.id = :ownerId""")
+    int updateStatus(@Param("id") Long id, @Param("ownerId") Long ownerId,
+                     @Param("status") Task.TaskStatus status, @Param("now") LocalDateTime now);
+
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update Task t set t.status = :status, t.completedAt = :now, t.updatedAt = :now, t.version = t.version + 1
+            where t.id = :id and t.owner.id = :ownerId and t.version = :version""")
+    int updateStatusIfVersion(@Param("id") Long id, @Param("ownerId") Long ownerId, @Param("version") Long version,
+                              @Param("status") Task.TaskStatus status, @Param("now") LocalDateTime now);
+
+    @Modifying(clearAutomatically = true)
+    @Query("delete from Task t where t.id = :id and t.owner.id = :ownerId")
+    int deleteOne(@Param("id") Long id, @Param("ownerId") Long ownerId);
+
+    @Modifying(clearAutomatically = true)
+    @Query("delete from Task t where t.id = :id and t.owner.id = :ownerId and t.version = :version")
+    int deleteOneIfVersion(@Param("id") Long id, @Param("ownerId") Long ownerId, @Param("version") Long version);
+
+    @Query("select t.id from Task t where t.owner.id = :ownerId and t.id in :ids")
+    List<Long> findExistingIds(@Param("ownerId") Long ownerId, @Param("ids") Collection<Long> ids);
+
+    // Must be consumed inside a transaction and closed; rows are fetched from the cursor in chunks
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("select t from Task t where t.owner.id = :ownerId order by t.id")
+    Stream<Task> streamByOwnerOrderById(@Param("ownerId") Long ownerId);
+
+    // Across owners, for the due date scheduler; PostgreSQL serves it from the partial index on open tasks' due dates
+    @Query("""
+            select t.id as id, t.owner.id as ownerId, t.dueDate as dueDate from Task t
+            where t.dueDate between :from and :to
+            and t.status not in (io.hahnsoftware.backend.entity.Task.TaskStatus.COMPLETED,
+                                 io.hahnsoftware.backend.entity.Task.TaskStatus.CANCELLED)""")
+    List<DueTask> findOpenDueBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    interface StatusPriorityCount {
+        Task.TaskStatus getStatus();
+
+        Task.TaskPriority getPriority();
+
+        long getCount();
+    }
+
+    // Any insert, update or delete changes at least one of these
+    interface ListSummary {
+        long getCount();
+
+        LocalDateTime getLastModified();
+
+        long getVersionSum();
+    }
+
+    interface DueTask {
+        Long getId();
+
+        Long getOwnerId();
+
+        LocalDate getDueDate();
+    }
+
+    interface DayCount {
+        LocalDate getDay();
+
+        long getCount();
+    }
+}
@@ -0,0 +1,58 @@
+package io.hahnsoftware.backend.repository;
+
+import io.hahnsoftware.backend.entity.Task;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+public final class TaskSpecifications {
+
+    private TaskSpecifications() {
+    }
+
+    public static Specification<Task> ownedBy(Long ownerId) {
+        return (root, query, cb) -> cb.equal(root.get("owner").get("id"), ownerId);
+    }
+
+    public static Specification<Task> statusIn(Collection<Task.TaskStatus> statuses) {
+        return (root, query, cb) -> statuses == null || statuses.isEmpty()
+                ? null
+                : root.get("status").in(statuses);
+    }
+
+    public static Specification<Task> priorityIn(Collection<Task.TaskPriority> priorities) {
+        return (root, query, cb) -> priorities == null || priorities.isEmpty()
+                ? null
+                : root.get("priority").in(priorities);
+    }
+
+    public static Specification<Task> dueAfter(LocalDate date) {
+        return (root, query, cb) -> date == null ? null : cb.greaterThanOrEqualTo(root.get("dueDate"), date);
+    }
+
+    public static Specification<Task> dueBefore(LocalDate date) {
+        return (root, query, cb) -> date == null ? null : cb.lessThan(root.get("dueDate"), date);
+    }
+
+    public static Specification<Task> hasValue(String field) {
+        return (root, query, cb) -> cb.isNotNull(root.get(field));
+    }
+
+    // Keyset predicate: rows strictly after (value, id) in the given sort direction. The leading bound on the
+    // field alone is redundant but lets the planner seek the (owner, field, id) index instead of filtering
+    public static <T extends Comparable<? super T>> Specification<Task> after(
+            String field, T value, Long id, Sort.Direction direction) {
+        return (root, query, cb) -> {
+            if (direction.isAscending()) {
+                return cb.and(
+                        cb.greaterThanOrEqualTo(root.<T>get(field), value),
+                        cb.or(cb.greaterThan(root.<T>get(field), value), cb.greaterThan(root.get("id"), id)));
+            }
+            return cb.and(
+                    cb.lessThanOrEqualTo(root.<T>get(field), value),
+                    cb.or(cb.lessThan(root.<T>get(field), value), cb.lessThan(root.get("id"), id)));
+        };
+    }
+}
@@ -0,0 +1,25 @@
+package io.hahnsoftware.backend.repository;
+
+import io.hahnsoftware.backend.entity.TaskTombstone;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface TaskTombstoneRepository extends JpaRepository<TaskTombstone, Long> {
+    @Query("""
+            select t.taskId from TaskTombstone t
+            where t.ownerId = :ownerId and t.deletedAt > :since and t.deletedAt <= :until order by t.deletedAt""")
+    List<Long> findTaskIdsDeletedBetween(@Param("ownerId") Long ownerId, @Param("since") LocalDateTime since,
+                                         @Param("until") LocalDateTime until);
+
+    @Query("select max(t.deletedAt) from TaskTombstone t where t.ownerId = :ownerId")
+    LocalDateTime findLatestDeletion(@Param("ownerId") Long ownerId);
+
+    @Modifying
+    @Query("delete from TaskTombstone t where t.deletedAt < :before")
+    int deleteOlderThan(@Param("before") LocalDateTime before);
+}
@@ -2,7 +2,11 @@ package io.hahnsoftware.backend.repository;
 
 import io.hahnsoftware.backend.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -10,4 +14,15 @@ import java.util.Optional;
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     Optional<User> findByUsername(String username);
+
+    // Not read-only, so it never goes to a replica: token checks must see new and deleted accounts at once
+    @Override
+    @Transactional
+    Optional<User> findById(Long id);
+
+    // One UPDATE; saving the detached user would select it first
+    @Transactional
+    @Modifying
+    @Query("update User u set u.password = :password where u.id = :id")
+    int updatePassword(@Param("id") Long id, @Param("password") String password);
 } 
\ No newline at end of file
@@ -0,0 +1,10 @@
+package io.hahnsoftware.backend.service;
+
+import io.hahnsoftware.backend.dto.TaskPageDTO;
+
+// Closed tasks older than the archive threshold leave the task table; they are only readable through here
+public interface TaskArchiveService {
+    TaskPageDTO getArchivedTasks(Long ownerId, String cursor, int size);
+
+    int archiveClosedTasks();
+}
@@ -0,0 +1,7 @@
+package io.hahnsoftware.backend.service;
+
+import io.hahnsoftware.backend.dto.TaskSearchPageDTO;
+
+public interface TaskSearchService {
+    TaskSearchPageDTO search(Long ownerId, String query, int page, int size);
+}
@@ -1,25 +1,44 @@
 package io.hahnsoftware.backend.service;
 
+import io.hahnsoftware.backend.dto.TaskBatchResultDTO;
 import io.hahnsoftware.backend.dto.TaskDTO;
+import io.hahnsoftware.backend.dto.TaskPageDTO;
+import io.hahnsoftware.backend.dto.TaskPageRequest;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
+// Every operation acts on the tasks of one owner; tasks of other owners behave as if they did not exist
 @Service
 public interface TaskService {
-    TaskDTO addTask(TaskDTO taskDTO);
+    TaskDTO addTask(Long ownerId, TaskDTO taskDTO);
 
-    TaskDTO getTask(Long id);
+    TaskDTO getTask(Long ownerId, Long id);
 
-    List<TaskDTO> getAllTasks();
+    List<TaskDTO> getAllTasks(Long ownerId);
 
-    List<TaskDTO> getTasksByStatus(String status);
+    TaskPageDTO getTaskPage(Long ownerId, TaskPageRequest request);
 
-    List<TaskDTO> getTasksByPriority(String priority);
+    void exportTasks(Long ownerId, OutputStream outputStream) throws IOException;
 
-    TaskDTO updateTask(TaskDTO taskDTO, Long id);
+    List<TaskDTO> getTasksByStatus(Long ownerId, String status);
 
-    void deleteTask(Long id);
+    List<TaskDTO> getTasksByPriority(Long ownerId, String priority);
+
+    // expectedVersion is optional; when given, a task at any other version is left untouched
+    TaskDTO updateTask(Long ownerId, TaskDTO taskDTO, Long id, Long expectedVersion);
+
+    void deleteTask(Long ownerId, Long id, Long expectedVersion);
     
-    TaskDTO markTaskAsCompleted(Long id);
+    TaskDTO markTaskAsCompleted(Long ownerId, Long id, Long expectedVersion);
+
+    List<TaskBatchResultDTO> addTasks(Long ownerId, List<TaskDTO> taskDTOs);
+
+    List<TaskBatchResultDTO> updateTasks(Long ownerId, List<TaskDTO> taskDTOs);
+
+    List<TaskBatchResultDTO> markTasksAsCompleted(Long ownerId, List<Long> ids);
+
+    List<TaskBatchResultDTO> deleteTasks(Long ownerId, List<Long> ids);
 } 
\ No newline at end of file
@@ -0,0 +1,7 @@
+package io.hahnsoftware.backend.service;
+
+import io.hahnsoftware.backend.dto.TaskStatsDTO;
+
+public interface TaskStatsService {
+    TaskStatsDTO getStats(Long ownerId, int days);
+}
@@ -0,0 +1,9 @@
+package io.hahnsoftware.backend.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public interface TaskStreamService {
+    SseEmitter subscribe(Long ownerId);
+
+    int getSubscriberCount();
+}
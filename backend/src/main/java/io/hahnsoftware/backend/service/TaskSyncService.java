@@ -0,0 +1,12 @@
+package io.hahnsoftware.backend.service;
+
+import io.hahnsoftware.backend.dto.TaskChangesDTO;
+import io.hahnsoftware.backend.dto.TaskListVersion;
+
+import java.time.LocalDateTime;
+
+public interface TaskSyncService {
+    TaskListVersion getListVersion(Long ownerId);
+
+    TaskChangesDTO getChangesSince(Long ownerId, LocalDateTime since);
+}
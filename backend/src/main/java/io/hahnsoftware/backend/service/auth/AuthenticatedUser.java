@@ -0,0 +1,28 @@
+package io.hahnsoftware.backend.service.auth;
+
+import io.hahnsoftware.backend.entity.Role;
+import io.hahnsoftware.backend.entity.User;
+import org.springframework.security.core.AuthenticatedPrincipal;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+
+/**
+ * Principal of an authenticated request, built from verified token claims without a database lookup.
+ */
+public record AuthenticatedUser(Long id, String username, Role role) implements AuthenticatedPrincipal {
+
+    public static AuthenticatedUser from(User user) {
+        return new AuthenticatedUser(user.getId(), user.getUsername(), user.getRole());
+    }
+
+    @Override
+    public String getName() {
+        return username;
+    }
+
+    public List<GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority(role.name()));
+    }
+}
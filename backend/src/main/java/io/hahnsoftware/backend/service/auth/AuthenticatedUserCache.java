@@ -0,0 +1,52 @@
+package io.hahnsoftware.backend.service.auth;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.hahnsoftware.backend.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Optional short-lived view of user accounts, used to notice role changes and deleted users
+ * before a token expires. Disabled by default: tokens are then trusted until expiration.
+ */
+@Component
+@RequiredArgsConstructor
+public class AuthenticatedUserCache {
+    @Value("${jwt.user-cache.enabled:false}")
+    private boolean enabled;
+    @Value("${jwt.user-cache.ttl:30s}")
+    private Duration ttl;
+    @Value("${jwt.user-cache.maximum-size:10000}")
+    private long maximumSize;
+
+    private final UserRepository userRepository;
+
+    private LoadingCache<Long, Optional<AuthenticatedUser>> users;
+
+    @PostConstruct
+    public void init() {
+        users = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build(id -> userRepository.findById(id).map(AuthenticatedUser::from));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // True when the account still exists with the username and role carried by the token
+    public boolean isCurrent(AuthenticatedUser user) {
+        return users.get(user.id()).map(user::equals).orElse(false);
+    }
+
+    public void invalidate(Long userId) {
+        users.invalidate(userId);
+    }
+}
@@ -0,0 +1,23 @@
+package io.hahnsoftware.backend.service.auth;
+
+import io.hahnsoftware.backend.entity.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+// Evicts cached accounts whenever a user is changed or removed through JPA.
+// The cache is looked up lazily because listeners are created with the EntityManagerFactory.
+@Component
+@RequiredArgsConstructor
+public class AuthenticatedUserCacheListener {
+
+    private final ObjectProvider<AuthenticatedUserCache> authenticatedUserCache;
+
+    @PostUpdate
+    @PostRemove
+    public void onChange(User user) {
+        authenticatedUserCache.ifAvailable(cache -> cache.invalidate(user.getId()));
+    }
+}
@@ -0,0 +1,60 @@
+package io.hahnsoftware.backend.service.auth;
+
+import io.hahnsoftware.backend.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Throttles login and registration per client address and per email. Checked before the user lookup and
+ * the password hash, so rejected attempts cost neither a query nor BCrypt.
+ */
+@Component
+@RequiredArgsConstructor
+public class LoginRateLimiter {
+    @Value("${auth.rate-limit.enabled:true}")
+    private boolean enabled;
+    @Value("${auth.rate-limit.ip.capacity:20}")
+    private int ipCapacity;
+    @Value("${auth.rate-limit.ip.refill-period:3s}")
+    private Duration ipRefillPeriod;
+    @Value("${auth.rate-limit.email.capacity:5}")
+    private int emailCapacity;
+    @Value("${auth.rate-limit.email.refill-period:1m}")
+    private Duration emailRefillPeriod;
+    @Value("${auth.rate-limit.max-keys:100000}")
+    private long maxKeys;
+
+    private final MeterRegistry meterRegistry;
+
+    private TokenBuckets byAddress;
+    private TokenBuckets byEmail;
+
+    @PostConstruct
+    public void init() {
+        byAddress = new TokenBuckets(ipCapacity, ipRefillPeriod, maxKeys);
+        byEmail = new TokenBuckets(emailCapacity, emailRefillPeriod, maxKeys);
+    }
+
+    public void check(String endpoint, String remoteAddress, String email) {
+        if (!enabled) {
+            return;
+        }
+        if (!byAddress.tryAcquire(remoteAddress)) {
+            throw rejected(endpoint, "ip");
+        }
+        if (email != null && !byEmail.tryAcquire(email.trim().toLowerCase(Locale.ROOT))) {
+            throw rejected(endpoint, "email");
+        }
+    }
+
+    private TooManyRequestsException rejected(String endpoint, String limit) {
+        meterRegistry.counter("auth.rate.limit.rejected", "endpoint", endpoint, "limit", limit).increment();
+        return new TooManyRequestsException("Too many attempts, retry later");
+    }
+}
@@ -0,0 +1,57 @@
+package io.hahnsoftware.backend.service.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * One token bucket per key: {@code capacity} tokens, refilled one per {@code refillPeriod}.
+ * A bucket is a single long, the time at which it will be full again, updated with compare-and-set,
+ * so concurrent attempts never lock. A bucket idle long enough to be full is dropped, and the number
+ * of tracked keys is capped.
+ */
+public class TokenBuckets {
+
+    private final long refillNanos;
+    private final long capacityNanos;
+    private final LongSupplier clock;
+    private final Cache<String, AtomicLong> buckets;
+
+    public TokenBuckets(int capacity, Duration refillPeriod, long maxKeys) {
+        this(capacity, refillPeriod, maxKeys, System::nanoTime);
+    }
+
+    TokenBuckets(int capacity, Duration refillPeriod, long maxKeys, LongSupplier clock) {
+        this.refillNanos = refillPeriod.toNanos();
+        this.capacityNanos = refillNanos * capacity;
+        this.clock = clock;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(Duration.ofNanos(capacityNanos))
+                .build();
+    }
+
+    public boolean tryAcquire(String key) {
+        long now = clock.getAsLong();
+        AtomicLong fullAt = buckets.get(key, k -> new AtomicLong(now));
+        while (true) {
+            long current = fullAt.get();
+            // Taking a token pushes the refill deadline back by one period
+            long next = (current - now < 0 ? now : current) + refillNanos;
+            if (next - now > capacityNanos) {
+                return false;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    long size() {
+        buckets.cleanUp();
+        return buckets.estimatedSize();
+    }
+}
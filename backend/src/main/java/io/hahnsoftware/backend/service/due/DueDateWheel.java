@@ -0,0 +1,107 @@
+package io.hahnsoftware.backend.service.due;
+
+import io.hahnsoftware.backend.event.TaskDueEvent;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Timing wheel with one slot per day. It holds the open tasks due between the current day and
+ * {@code horizonDays} later. Each task sits in two slots: its reminder day ({@code reminderDays} before the
+ * due date) and the day after its due date. Scheduling and cancelling are O(1). Advancing a day fires and
+ * clears one slot. Not thread-safe.
+ */
+class DueDateWheel {
+
+    private record Entry(Long ownerId, LocalDate dueDate) {
+    }
+
+    private final int horizonDays;
+    private final int reminderDays;
+    // Distinct slots for every day from the current day to the overdue day of the last task in the horizon
+    private final List<Set<Long>> reminderSlots;
+    private final List<Set<Long>> overdueSlots;
+    private final Map<Long, Entry> tasks = new HashMap<>();
+    private LocalDate currentDay;
+
+    DueDateWheel(LocalDate currentDay, int horizonDays, int reminderDays) {
+        if (reminderDays < 0 || reminderDays > horizonDays) {
+            throw new IllegalArgumentException("reminderDays must be between 0 and horizonDays");
+        }
+        this.currentDay = currentDay;
+        this.horizonDays = horizonDays;
+        this.reminderDays = reminderDays;
+        this.reminderSlots = new ArrayList<>(horizonDays + 2);
+        this.overdueSlots = new ArrayList<>(horizonDays + 2);
+        for (int i = 0; i < horizonDays + 2; i++) {
+            reminderSlots.add(new HashSet<>());
+            overdueSlots.add(new HashSet<>());
+        }
+    }
+
+    LocalDate getCurrentDay() {
+        return currentDay;
+    }
+
+    // Last due date the wheel holds; later tasks are loaded as the wheel turns
+    LocalDate getHorizonEnd() {
+        return currentDay.plusDays(horizonDays);
+    }
+
+    int size() {
+        return tasks.size();
+    }
+
+    // Replaces any earlier schedule of the task; false when the due date is outside the horizon
+    boolean schedule(Long taskId, Long ownerId, LocalDate dueDate) {
+        cancel(taskId);
+        if (dueDate.isBefore(currentDay) || dueDate.isAfter(getHorizonEnd())) {
+            return false;
+        }
+        tasks.put(taskId, new Entry(ownerId, dueDate));
+        overdueSlots.get(slot(dueDate.plusDays(1))).add(taskId);
+        // A reminder day that has already begun is not announced
+        LocalDate reminderDay = dueDate.minusDays(reminderDays);
+        if (reminderDay.isAfter(currentDay)) {
+            reminderSlots.get(slot(reminderDay)).add(taskId);
+        }
+        return true;
+    }
+
+    void cancel(Long taskId) {
+        Entry entry = tasks.remove(taskId);
+        if (entry != null) {
+            overdueSlots.get(slot(entry.dueDate().plusDays(1))).remove(taskId);
+            reminderSlots.get(slot(entry.dueDate().minusDays(reminderDays))).remove(taskId);
+        }
+    }
+
+    // Turns the wheel a day at a time up to today; overdue tasks leave the wheel
+    List<TaskDueEvent> advanceTo(LocalDate today) {
+        List<TaskDueEvent> fired = new ArrayList<>();
+        while (currentDay.isBefore(today)) {
+            currentDay = currentDay.plusDays(1);
+            int slot = slot(currentDay);
+            for (Long taskId : reminderSlots.get(slot)) {
+                Entry entry = tasks.get(taskId);
+                fired.add(new TaskDueEvent(TaskDueEvent.Type.DUE_SOON, taskId, entry.ownerId(), entry.dueDate()));
+            }
+            reminderSlots.get(slot).clear();
+            for (Long taskId : overdueSlots.get(slot)) {
+                Entry entry = tasks.remove(taskId);
+                fired.add(new TaskDueEvent(TaskDueEvent.Type.OVERDUE, taskId, entry.ownerId(), entry.dueDate()));
+            }
+            overdueSlots.get(slot).clear();
+        }
+        return fired;
+    }
+
+    private int slot(LocalDate day) {
+        return (int) Math.floorMod(day.toEpochDay(), (long) reminderSlots.size());
+    }
+}
@@ -0,0 +1,145 @@
+package io.hahnsoftware.backend.service.due;
+
+import io.hahnsoftware.backend.dto.TaskDTO;
+import io.hahnsoftware.backend.entity.Task;
+import io.hahnsoftware.backend.event.TaskChangedEvent;
+import io.hahnsoftware.backend.event.TaskDueEvent;
+import io.hahnsoftware.backend.repository.TaskRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Publishes {@link TaskDueEvent}s from a {@link DueDateWheel}. The wheel only holds open tasks due within
+ * the horizon. It is loaded once at startup; after that, each new day of the horizon is loaded with one
+ * indexed query. Committed task changes update the wheel directly, so a tick never scans the table.
+ * <p>
+ * The wheel starts at today, so at startup open tasks that fell due in the last {@code overdueCatchUpDays}
+ * days get their {@code OVERDUE} event from one more query. That covers days the application was down, and
+ * repeats the event for tasks that were already overdue before; older tasks get none.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "task.due.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class TaskDueScheduler {
+
+    private static final Set<Task.TaskStatus> CLOSED = Set.of(Task.TaskStatus.COMPLETED, Task.TaskStatus.CANCELLED);
+
+    @Value("${task.due.horizon-days:7}")
+    private int horizonDays;
+
+    @Value("${task.due.reminder-days:1}")
+    private int reminderDays;
+
+    @Value("${task.due.overdue-catch-up-days:7}")
+    private int overdueCatchUpDays;
+
+    private final TaskRepository taskRepository;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final MeterRegistry meterRegistry;
+
+    // One load or tick at a time; the wheel itself is guarded by this
+    private final Object tickLock = new Object();
+    private DueDateWheel wheel;
+    // Tasks changed while a load query runs; the query may have read them before the change
+    private Set<Long> changedWhileLoading;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        synchronized (tickLock) {
+            LocalDate today = LocalDate.now();
+            synchronized (this) {
+                wheel = new DueDateWheel(today, horizonDays, reminderDays);
+            }
+            Gauge.builder("task.due.scheduled", this, TaskDueScheduler::size).register(meterRegistry);
+            load(today, today.plusDays(horizonDays));
+            if (overdueCatchUpDays > 0) {
+                List<TaskRepository.DueTask> overdue =
+                        taskRepository.findOpenDueBetween(today.minusDays(overdueCatchUpDays), today.minusDays(1));
+                overdue.forEach(task -> fire(new TaskDueEvent(TaskDueEvent.Type.OVERDUE, task.getId(),
+                        task.getOwnerId(), task.getDueDate())));
+                log.info("Published OVERDUE for {} tasks due in the last {} days", overdue.size(), overdueCatchUpDays);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${task.due.tick:1m}")
+    public void tick() {
+        synchronized (tickLock) {
+            List<TaskDueEvent> fired;
+            LocalDate loadFrom;
+            LocalDate loadTo;
+            synchronized (this) {
+                if (wheel == null) {
+                    return;
+                }
+                loadFrom = wheel.getHorizonEnd().plusDays(1);
+                fired = wheel.advanceTo(LocalDate.now());
+                loadTo = wheel.getHorizonEnd();
+            }
+            fired.forEach(this::fire);
+            if (!loadFrom.isAfter(loadTo)) {
+                load(loadFrom, loadTo);
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onTaskChanged(TaskChangedEvent event) {
+        if (wheel == null) {
+            return;
+        }
+        if (changedWhileLoading != null) {
+            changedWhileLoading.add(event.taskId());
+        }
+        TaskDTO task = event.task();
+        if (task == null || task.getDueDate() == null || CLOSED.contains(task.getStatus())) {
+            wheel.cancel(event.taskId());
+        } else {
+            wheel.schedule(event.taskId(), event.ownerId(), task.getDueDate());
+        }
+    }
+
+    synchronized int size() {
+        return wheel == null ? 0 : wheel.size();
+    }
+
+    private void fire(TaskDueEvent event) {
+        meterRegistry.counter("task.due.fired", "type", event.type().name().toLowerCase()).increment();
+        eventPublisher.publishEvent(event);
+    }
+
+    // Caller holds tickLock
+    private void load(LocalDate from, LocalDate to) {
+        synchronized (this) {
+            changedWhileLoading = new HashSet<>();
+        }
+        List<TaskRepository.DueTask> due = taskRepository.findOpenDueBetween(from, to);
+        synchronized (this) {
+            for (TaskRepository.DueTask task : due) {
+                if (!changedWhileLoading.contains(task.getId())) {
+                    wheel.schedule(task.getId(), task.getOwnerId(), task.getDueDate());
+                }
+            }
+            changedWhileLoading = null;
+        }
+        log.debug("Loaded {} tasks due between {} and {}", due.size(), from, to);
+    }
+}
@@ -6,12 +6,11 @@ import io.hahnsoftware.backend.dto.AuthResponse;
 import io.hahnsoftware.backend.dto.UserDTO;
 import io.hahnsoftware.backend.entity.Role;
 import io.hahnsoftware.backend.entity.User;
+import io.hahnsoftware.backend.mapper.UserMapper;
 import io.hahnsoftware.backend.repository.UserRepository;
 import io.hahnsoftware.backend.service.AuthenticationService;
 import io.hahnsoftware.backend.service.auth.JwtService;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -30,19 +29,15 @@ public class AuthenticationServiceImpl implements AuthenticationService {
 
     private final UserRepository userRepository;
 
-    private ModelMapper modelMapper;
+    private final UserMapper userMapper;
 
     @Override
     public AuthResponse register(UserDTO userDTO) {
-        User user = new User();
-        user.setFirstName(userDTO.getFirstName());
-        user.setLastName(userDTO.getLastName());
-        user.setUsername(userDTO.getUsername());
-        user.setEmail(userDTO.getEmail());
+        User user = userMapper.toEntity(userDTO);
         user.setPassword(passwordEncoder.encode(userDTO.getPassword()));
         user.setRole(Role.USER);
         User savedUser = userRepository.save(user);
-        String token = jwtService.generateToken(savedUser.getUsername());
+        String token = jwtService.generateToken(savedUser);
         return new AuthResponse(token);
     }
 
@@ -58,7 +53,7 @@ public class AuthenticationServiceImpl implements AuthenticationService {
                 )
         );
 
-        String token = jwtService.generateToken(user.getUsername());
+        String token = jwtService.generateToken(user);
 
         return new AuthResponse(token);
     }
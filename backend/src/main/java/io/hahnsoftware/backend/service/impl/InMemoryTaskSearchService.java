@@ -0,0 +1,152 @@
+package io.hahnsoftware.backend.service.impl;
+
+import io.hahnsoftware.backend.dto.TaskDTO;
+import io.hahnsoftware.backend.dto.TaskSearchPageDTO;
+import io.hahnsoftware.backend.entity.Task;
+import io.hahnsoftware.backend.event.TaskChangedEvent;
+import io.hahnsoftware.backend.mapper.TaskMapper;
+import io.hahnsoftware.backend.repository.TaskRepository;
+import io.hahnsoftware.backend.service.TaskSearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Inverted index over task title and description for databases without full-text search (H2).
+ * Kept current from task change events; every query term must match, title hits weigh double.
+ * Postings are kept per owner, so a search only touches the searching user's tasks.
+ */
+@Service
+@ConditionalOnProperty(name = "task.search.mode", havingValue = "memory")
+@RequiredArgsConstructor
+public class InMemoryTaskSearchService implements TaskSearchService {
+
+    private static final int TITLE_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    private final TaskRepository taskRepository;
+
+    private final TaskMapper taskMapper;
+
+    // owner id -> term -> task id -> weighted term frequency
+    private final Map<Long, Map<String, Map<Long, Integer>>> postingsByOwner = new ConcurrentHashMap<>();
+    // task id -> owner and indexed terms, used to drop stale postings when a task changes
+    private final Map<Long, IndexedTask> indexedTasks = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        taskRepository.findAll().forEach(task -> index(task.getOwner().getId(), taskMapper.toDto(task)));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.task() == null) {
+            remove(event.taskId());
+        } else {
+            index(event.ownerId(), event.task());
+        }
+    }
+
+    @Override
+    public TaskSearchPageDTO search(Long ownerId, String query, int page, int size) {
+        SearchPage searchPage = SearchPage.of(page, size);
+        List<Long> ids = searchIds(ownerId, query);
+        int from = Math.min(searchPage.offset(), ids.size());
+        int to = Math.min(from + searchPage.size(), ids.size());
+        List<Long> pageIds = ids.subList(from, to);
+
+        Map<Long, Task> tasks = taskRepository.findAllById(pageIds).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+        List<TaskDTO> items = new ArrayList<>(pageIds.size());
+        for (Long id : pageIds) {
+            Task task = tasks.get(id);
+            if (task != null) {
+                items.add(taskMapper.toDto(task));
+            }
+        }
+        return new TaskSearchPageDTO(items, searchPage.page(), searchPage.size(), to < ids.size());
+    }
+
+    // Ids of the owner's tasks containing every term of the query, best score first
+    public List<Long> searchIds(Long ownerId, String query) {
+        Set<String> terms = tokenize(query, 1).keySet();
+        Map<String, Map<Long, Integer>> postings = postingsByOwner.get(ownerId);
+        if (terms.isEmpty() || postings == null) {
+            return List.of();
+        }
+        Map<Long, Integer> scores = null;
+        for (String term : terms) {
+            Map<Long, Integer> matches = postings.getOrDefault(term, Map.of());
+            if (scores == null) {
+                scores = new HashMap<>(matches);
+            } else {
+                scores.keySet().retainAll(matches.keySet());
+                scores.replaceAll((id, score) -> score + matches.getOrDefault(id, 0));
+            }
+            if (scores.isEmpty()) {
+                return List.of();
+            }
+        }
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Integer>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+    }
+
+    public synchronized void index(Long ownerId, TaskDTO task) {
+        remove(task.getId());
+        Map<String, Integer> frequencies = tokenize(task.getTitle(), TITLE_WEIGHT);
+        tokenize(task.getDescription(), DESCRIPTION_WEIGHT).forEach((term, weight) -> frequencies.merge(term, weight, Integer::sum));
+        Map<String, Map<Long, Integer>> postings = postingsByOwner.computeIfAbsent(ownerId, key -> new ConcurrentHashMap<>());
+        frequencies.forEach((term, weight) ->
+                postings.computeIfAbsent(term, key -> new ConcurrentHashMap<>()).put(task.getId(), weight));
+        indexedTasks.put(task.getId(), new IndexedTask(ownerId, frequencies.keySet()));
+    }
+
+    public synchronized void remove(Long taskId) {
+        IndexedTask indexed = indexedTasks.remove(taskId);
+        if (indexed == null) {
+            return;
+        }
+        Map<String, Map<Long, Integer>> postings = postingsByOwner.get(indexed.ownerId());
+        for (String term : indexed.terms()) {
+            postings.computeIfPresent(term, (key, matches) -> {
+                matches.remove(taskId);
+                return matches.isEmpty() ? null : matches;
+            });
+        }
+        if (postings.isEmpty()) {
+            postingsByOwner.remove(indexed.ownerId());
+        }
+    }
+
+    private static Map<String, Integer> tokenize(String text, int weight) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        if (text == null) {
+            return frequencies;
+        }
+        for (String term : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!term.isEmpty()) {
+                frequencies.merge(term, weight, Integer::sum);
+            }
+        }
+        return frequencies;
+    }
+
+    private record IndexedTask(Long ownerId, Set<String> terms) {
+    }
+}
@@ -0,0 +1,38 @@
+package io.hahnsoftware.backend.service.impl;
+
+import io.hahnsoftware.backend.dto.TaskDTO;
+import io.hahnsoftware.backend.dto.TaskSearchPageDTO;
+import io.hahnsoftware.backend.entity.Task;
+import io.hahnsoftware.backend.mapper.TaskMapper;
+import io.hahnsoftware.backend.repository.TaskRepository;
+import io.hahnsoftware.backend.service.TaskSearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+// Ranked search over the generated tasks.search_vector column and its GIN index
+@Service
+@ConditionalOnProperty(name = "task.search.mode", havingValue = "postgres", matchIfMissing = true)
+@RequiredArgsConstructor
+public class PostgresTaskSearchService implements TaskSearchService {
+
+    private final TaskRepository taskRepository;
+
+    private final TaskMapper taskMapper;
+
+    @Override
+    @Transactional(readOnly = true)
+    public TaskSearchPageDTO search(Long ownerId, String query, int page, int size) {
+        SearchPage searchPage = SearchPage.of(page, size);
+        if (query == null || query.isBlank()) {
+            return new TaskSearchPageDTO(List.of(), searchPage.page(), searchPage.size(), false);
+        }
+        List<Task> tasks = taskRepository.searchFullText(ownerId, query, searchPage.size() + 1, searchPage.offset());
+        boolean hasMore = tasks.size() > searchPage.size();
+        List<TaskDTO> items = taskMapper.toDtoList(hasMore ? tasks.subList(0, searchPage.size()) : tasks);
+        return new TaskSearchPageDTO(items, searchPage.page(), searchPage.size(), hasMore);
+    }
+}
@@ -0,0 +1,24 @@
+package io.hahnsoftware.backend.service.impl;
+
+import io.hahnsoftware.backend.exception.BadRequestException;
+
+// Offset pagination over ranked search results
+record SearchPage(int page, int size) {
+
+    private static final int MAX_SIZE = 100;
+
+    static SearchPage of(int page, int size) {
+        SearchPage searchPage = new SearchPage(Math.max(0, page), Math.max(1, Math.min(size, MAX_SIZE)));
+        try {
+            // Callers read one row past the page, so that end must fit an int too
+            Math.addExact(Math.multiplyExact(searchPage.page, searchPage.size), searchPage.size + 1);
+        } catch (ArithmeticException e) {
+            throw new BadRequestException("Page out of range");
+        }
+        return searchPage;
+    }
+
+    int offset() {
+        return page * size;
+    }
+}
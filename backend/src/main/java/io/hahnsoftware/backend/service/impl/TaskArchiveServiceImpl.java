@@ -0,0 +1,221 @@
+package io.hahnsoftware.backend.service.impl;
+
+import io.hahnsoftware.backend.dto.TaskDTO;
+import io.hahnsoftware.backend.dto.TaskPageDTO;
+import io.hahnsoftware.backend.entity.Task;
+import io.hahnsoftware.backend.event.TaskChangedEvent;
+import io.hahnsoftware.backend.exception.BadRequestException;
+import io.hahnsoftware.backend.service.TaskArchiveService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Moves closed tasks whose {@code closed_at} (completion, or last update of a cancelled task) is older than
+ * {@code afterDays} from {@code tasks} to {@code task_archive}, {@code batchSize} rows per transaction with a
+ * pause between batches so the job never holds many locks or saturates the primary. On PostgreSQL the archive
+ * is partitioned by month and missing partitions are created before rows move into them.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TaskArchiveServiceImpl implements TaskArchiveService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    // Rows locked by a writer or another instance's job are left for the next batch
+    private static final String SELECT_BATCH = """
+            select id, owner_id, coalesce(completed_at, updated_at) as closed_at from tasks
+            where status in ('COMPLETED', 'CANCELLED') and coalesce(completed_at, updated_at) < ?
+            order by coalesce(completed_at, updated_at), id limit ? for update skip locked""";
+    private static final String COPY_BATCH = """
+            insert into task_archive (id, owner_id, title, description, status, priority, due_date, created_at,
+                updated_at, completed_at, version, closed_at, archived_at)
+            select id, owner_id, title, description, status, priority, due_date, created_at,
+                updated_at, completed_at, version, coalesce(completed_at, updated_at), :archivedAt
+            from tasks where id in (:ids)""";
+    private static final String DELETE_BATCH = "delete from tasks where id in (:ids)";
+    private static final String CREATE_PARTITION = """
+            create table if not exists task_archive_y%dm%02d partition of task_archive
+            for values from ('%s') to ('%s')""";
+    private static final String SELECT_PAGE = """
+            select id, title, description, status, priority, due_date, created_at, updated_at, completed_at,
+                version, closed_at
+            from task_archive where owner_id = ? %s
+            order by closed_at desc, id desc limit ?""";
+
+    private record ClosedTask(Long id, Long ownerId, LocalDateTime closedAt) {
+    }
+
+    private record ArchivedTask(TaskDTO task, LocalDateTime closedAt) {
+    }
+
+    private static final RowMapper<ArchivedTask> ARCHIVED_TASK = (rs, rowNum) -> new ArchivedTask(new TaskDTO(
+            rs.getLong("id"),
+            rs.getString("title"),
+            rs.getString("description"),
+            Task.TaskStatus.valueOf(rs.getString("status")),
+            Task.TaskPriority.valueOf(rs.getString("priority")),
+            rs.getObject("due_date", LocalDate.class),
+            rs.getObject("created_at", LocalDateTime.class),
+            rs.getObject("updated_at", LocalDateTime.class),
+            rs.getObject("completed_at", LocalDateTime.class),
+            rs.getLong("version")), rs.getObject("closed_at", LocalDateTime.class));
+
+    @Value("${task.archive.after-days:90}")
+    private int afterDays;
+
+    @Value("${task.archive.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${task.archive.pause:500ms}")
+    private Duration pause;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    private final PlatformTransactionManager transactionManager;
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final TaskListCache taskListCache;
+
+    private final MeterRegistry meterRegistry;
+
+    private TransactionTemplate transaction;
+    private boolean partitioned;
+    private Counter archived;
+
+    @PostConstruct
+    public void init() {
+        transaction = new TransactionTemplate(transactionManager);
+        partitioned = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect() instanceof PostgreSQLDialect;
+        archived = Counter.builder("task.archive.archived").register(meterRegistry);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TaskPageDTO getArchivedTasks(Long ownerId, String cursor, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        List<ArchivedTask> tasks;
+        if (cursor == null || cursor.isBlank()) {
+            tasks = jdbcTemplate.query(SELECT_PAGE.formatted(""), ARCHIVED_TASK, ownerId, limit + 1);
+        } else {
+            TaskCursor after = TaskCursor.decode(cursor, "closedAt");
+            tasks = jdbcTemplate.query(SELECT_PAGE.formatted("and (closed_at, id) < (?, ?)"), ARCHIVED_TASK,
+                    ownerId, parseCursorValue(after), after.id(), limit + 1);
+        }
+
+        // One extra row tells whether another page exists
+        boolean hasMore = tasks.size() > limit;
+        List<ArchivedTask> page = hasMore ? tasks.subList(0, limit) : tasks;
+        String nextCursor = null;
+        if (hasMore) {
+            ArchivedTask last = page.get(page.size() - 1);
+            nextCursor = new TaskCursor("closedAt", last.closedAt().toString(), last.task().getId()).encode();
+        }
+        return new TaskPageDTO(page.stream().map(ArchivedTask::task).toList(), nextCursor, hasMore);
+    }
+
+    @Override
+    @Scheduled(cron = "${task.archive.cron:0 30 3 * * *}")
+    public synchronized int archiveClosedTasks() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(afterDays);
+        int total = 0;
+        List<Long> moved;
+        do {
+            moved = transaction.execute(status -> archiveBatch(cutoff));
+            if (moved == null || moved.isEmpty()) {
+                break;
+            }
+            // Archived rows were deleted behind Hibernate's back
+            moved.forEach(id -> entityManagerFactory.getCache().evict(Task.class, id));
+            archived.increment(moved.size());
+            total += moved.size();
+        } while (moved.size() == batchSize && pauseBetweenBatches());
+        log.info("Archived {} tasks closed before {}", total, cutoff);
+        return total;
+    }
+
+    private List<Long> archiveBatch(LocalDateTime cutoff) {
+        List<ClosedTask> batch = jdbcTemplate.query(SELECT_BATCH, (rs, rowNum) -> new ClosedTask(
+                rs.getLong("id"),
+                rs.getLong("owner_id"),
+                rs.getObject("closed_at", LocalDateTime.class)), cutoff, batchSize);
+        if (batch.isEmpty()) {
+            return List.of();
+        }
+        if (partitioned) {
+            Set<YearMonth> months = new TreeSet<>();
+            batch.forEach(task -> months.add(YearMonth.from(task.closedAt())));
+            months.forEach(this::createPartition);
+        }
+
+        List<Long> ids = batch.stream().map(ClosedTask::id).toList();
+        namedJdbcTemplate.update(COPY_BATCH, new MapSqlParameterSource("ids", ids)
+                .addValue("archivedAt", LocalDateTime.now()));
+        namedJdbcTemplate.update(DELETE_BATCH, new MapSqlParameterSource("ids", ids));
+
+        Set<String> listKeys = new HashSet<>();
+        for (ClosedTask task : batch) {
+            TaskListCache.addAllKeys(listKeys, task.ownerId());
+            eventPublisher.publishEvent(TaskChangedEvent.archived(task.ownerId(), task.id()));
+        }
+        taskListCache.evictAfterCommit(listKeys);
+        return ids;
+    }
+
+    private void createPartition(YearMonth month) {
+        jdbcTemplate.execute(CREATE_PARTITION.formatted(month.getYear(), month.getMonthValue(),
+                month.atDay(1), month.plusMonths(1).atDay(1)));
+    }
+
+    // False when interrupted, which ends the run; the remaining rows wait for the next one
+    private boolean pauseBetweenBatches() {
+        try {
+            Thread.sleep(pause.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static LocalDateTime parseCursorValue(TaskCursor cursor) {
+        try {
+            return LocalDateTime.parse(cursor.value());
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+}
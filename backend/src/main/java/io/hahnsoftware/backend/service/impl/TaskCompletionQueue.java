@@ -0,0 +1,433 @@
+package io.hahnsoftware.backend.service.impl;
+
+import io.hahnsoftware.backend.entity.Task;
+import io.hahnsoftware.backend.event.TaskChangedEvent;
+import io.hahnsoftware.backend.exception.ServiceUnavailableException;
+import io.hahnsoftware.backend.mapper.TaskMapper;
+import io.hahnsoftware.backend.repository.TaskRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Write-behind for single task completions. A completion is appended to a local journal and acknowledged;
+ * a background writer then commits the pending completions in batches. A task completed again before it is
+ * written is written once, with the latest completion. The journal holds at least every completion that is
+ * not committed yet and is replayed at startup. When {@code capacity} completions are pending, callers wait up
+ * to {@code maxWait} for room and then get 503.
+ * <p>
+ * Journal syncs are group commits. A completion is appended under the queue lock, and the caller then
+ * waits outside it for an fsync that covers its line. Only one fsync runs at a time. It covers every line
+ * appended before it started, so callers that arrive during a sync share the next one.
+ * <p>
+ * Committed completions stay in the journal until it reaches {@code 2 * capacity} lines. The writer then
+ * compacts it to the pending completions. The bulk of that write happens outside the queue lock; only the
+ * lines appended meanwhile and the rename are done under it. Replaying a committed line is harmless, since
+ * {@link #changedSince} skips it.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class TaskCompletionQueue {
+
+    @Value("${task.completion.write-behind.enabled:false}")
+    private boolean enabled;
+    @Value("${task.completion.write-behind.journal:data/task-completions.journal}")
+    private Path journal;
+    @Value("${task.completion.write-behind.capacity:10000}")
+    private int capacity;
+    @Value("${task.completion.write-behind.batch-size:500}")
+    private int batchSize;
+    @Value("${task.completion.write-behind.flush-interval:200ms}")
+    private Duration flushInterval;
+    @Value("${task.completion.write-behind.max-wait:1s}")
+    private Duration maxWait;
+
+    private final TaskRepository taskRepository;
+    private final TaskMapper taskMapper;
+    private final TaskListCache taskListCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notFull = lock.newCondition();
+    // One entry per task, oldest first; a newer completion replaces the entry in place
+    private final LinkedHashMap<Long, Completion> pending = new LinkedHashMap<>();
+    // Held by the caller whose fsync is running; others wait here and usually find their line already covered
+    private final ReentrantLock syncLock = new ReentrantLock();
+    // Sequence of the last appended line (guarded by lock) and of the last line known to be on disk
+    private long appended;
+    private final AtomicLong synced = new AtomicLong();
+    // Lines in the current journal file, and those appended while a compaction runs (null otherwise); guarded by lock
+    private long journalLines;
+    private List<Completion> appendedDuringCompaction;
+
+    private FileChannel journalChannel;
+    private TransactionTemplate transaction;
+    private ScheduledExecutorService writer;
+    private Counter rejected;
+    private Counter syncs;
+    private Timer flushTimer;
+
+    record Completion(Long taskId, Long ownerId, LocalDateTime completedAt) {
+
+        String toLine() {
+            return taskId + "," + ownerId + "," + completedAt + "\n";
+        }
+
+        // A line cut short by a crash is skipped; it was never acknowledged
+        static Completion parse(String line) {
+            String[] fields = line.split(",");
+            if (fields.length != 3) {
+                return null;
+            }
+            try {
+                return new Completion(Long.valueOf(fields[0]), Long.valueOf(fields[1]), LocalDateTime.parse(fields[2]));
+            } catch (NumberFormatException | DateTimeParseException e) {
+                return null;
+            }
+        }
+    }
+
+    // Completions left in the journal are written even when write-behind has since been turned off
+    @PostConstruct
+    public void init() throws IOException {
+        if (!enabled && !Files.exists(journal)) {
+            return;
+        }
+        transaction = new TransactionTemplate(transactionManager);
+        if (journal.toAbsolutePath().getParent() != null) {
+            Files.createDirectories(journal.toAbsolutePath().getParent());
+        }
+        recover();
+        Gauge.builder("task.completion.pending", this, TaskCompletionQueue::size).register(meterRegistry);
+        rejected = Counter.builder("task.completion.rejected").register(meterRegistry);
+        syncs = Counter.builder("task.completion.journal.syncs").register(meterRegistry);
+        flushTimer = Timer.builder("task.completion.flush").register(meterRegistry);
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("task-completion-writer-");
+        threadFactory.setDaemon(true);
+        writer = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        writer.scheduleWithFixedDelay(this::flush,
+                flushInterval.toMillis(), flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    // Writes what is pending before the database goes away; anything that fails stays journaled
+    @PreDestroy
+    public void shutdown() throws IOException, InterruptedException {
+        if (writer == null) {
+            return;
+        }
+        writer.shutdown();
+        writer.awaitTermination(30, TimeUnit.SECONDS);
+        flush();
+        journalChannel.close();
+    }
+
+    boolean isEnabled() {
+        return enabled;
+    }
+
+    int size() {
+        lock.lock();
+        try {
+            return pending.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Returns once the completion is journaled and synced; it is written to the database later
+    void submit(Long ownerId, Long taskId, LocalDateTime completedAt) {
+        Completion completion = new Completion(taskId, ownerId, completedAt);
+        long sequence;
+        lock.lock();
+        try {
+            long remaining = maxWait.toNanos();
+            // Completing an already pending task replaces its entry, so it never has to wait
+            while (pending.size() >= capacity && !pending.containsKey(taskId)) {
+                if (remaining <= 0) {
+                    rejected.increment();
+                    throw new ServiceUnavailableException("Too many task completions pending, retry shortly");
+                }
+                remaining = notFull.awaitNanos(remaining);
+            }
+            append(completion);
+            pending.put(taskId, completion);
+            sequence = ++appended;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Interrupted while waiting to queue the completion");
+        } finally {
+            lock.unlock();
+        }
+        awaitSynced(sequence);
+    }
+
+    // If the fsync fails, the completion is still pending and may be written anyway. The caller gets an
+    // error, and completing the task again is harmless.
+    private void awaitSynced(long sequence) {
+        syncLock.lock();
+        try {
+            if (synced.get() >= sequence) {
+                return;
+            }
+            long covered;
+            FileChannel channel;
+            lock.lock();
+            try {
+                covered = appended;
+                channel = journalChannel;
+            } finally {
+                lock.unlock();
+            }
+            try {
+                channel.force(false);
+                syncs.increment();
+            } catch (ClosedChannelException e) {
+                // A journal rewrite replaced the channel; the rewritten journal is synced and holds every line
+                return;
+            }
+            synced.accumulateAndGet(covered, Math::max);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not sync the task completion journal", e);
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    // Runs on the writer thread, or on the caller's in tests and at shutdown; one batch is in flight at a time
+    synchronized void flush() {
+        try {
+            List<Completion> batch;
+            do {
+                batch = nextBatch();
+                if (!batch.isEmpty()) {
+                    List<Completion> written = batch;
+                    flushTimer.record(() -> write(written));
+                    committed(written);
+                }
+            } while (batch.size() == batchSize);
+            compactIfNeeded();
+        } catch (IOException e) {
+            log.warn("Compacting the task completion journal failed", e);
+        } catch (RuntimeException e) {
+            // The batch is still pending and journaled, so the next run retries it
+            log.warn("Writing queued task completions failed", e);
+        }
+    }
+
+    // Later lines for a task replace earlier ones; the journal is then rewritten compacted. Lines already
+    // committed come back as pending and are skipped when written
+    void recover() throws IOException {
+        lock.lock();
+        try {
+            if (Files.exists(journal)) {
+                for (String line : Files.readAllLines(journal, StandardCharsets.UTF_8)) {
+                    Completion completion = Completion.parse(line);
+                    if (completion != null) {
+                        pending.put(completion.taskId(), completion);
+                    }
+                }
+                if (!pending.isEmpty()) {
+                    log.info("Recovered {} queued task completions from {}", pending.size(), journal);
+                }
+            }
+            rewriteJournal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private List<Completion> nextBatch() {
+        lock.lock();
+        try {
+            List<Completion> batch = new ArrayList<>(Math.min(batchSize, pending.size()));
+            Iterator<Completion> iterator = pending.values().iterator();
+            while (iterator.hasNext() && batch.size() < batchSize) {
+                batch.add(iterator.next());
+            }
+            return batch;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void write(List<Completion> batch) {
+        transaction.executeWithoutResult(status -> {
+            Map<Long, Completion> byTask = batch.stream()
+                    .collect(Collectors.toMap(Completion::taskId, Function.identity()));
+            Set<String> affectedLists = new HashSet<>();
+            List<Task> completed = new ArrayList<>();
+            // Deleted tasks are simply not found
+            for (Task task : taskRepository.findAllById(byTask.keySet())) {
+                Completion completion = byTask.get(task.getId());
+                if (!task.getOwner().getId().equals(completion.ownerId()) || changedSince(task, completion)) {
+                    continue;
+                }
+                TaskListCache.addKeys(affectedLists, completion.ownerId(), task.getStatus(), task.getPriority());
+                task.setStatus(Task.TaskStatus.COMPLETED);
+                task.setCompletedAt(completion.completedAt());
+                TaskListCache.addKeys(affectedLists, completion.ownerId(), task.getStatus(), null);
+                completed.add(task);
+            }
+            // Versioned, batched updates; a concurrent change rolls the batch back for a retry
+            taskRepository.flush();
+            taskListCache.evictAfterCommit(affectedLists);
+            completed.forEach(task -> eventPublisher.publishEvent(
+                    TaskChangedEvent.completed(task.getOwner().getId(), taskMapper.toDto(task))));
+        });
+    }
+
+    // The last write wins: an update committed after the completion was accepted is kept. This also skips
+    // a replayed completion that was committed just before a crash, as writing it moved updatedAt past it.
+    private static boolean changedSince(Task task, Completion completion) {
+        return task.getUpdatedAt() != null && task.getUpdatedAt().isAfter(completion.completedAt());
+    }
+
+    // No file work here: committed lines stay in the journal until the next compaction
+    private void committed(List<Completion> batch) {
+        lock.lock();
+        try {
+            // An entry replaced while its batch was being written is still pending
+            batch.forEach(completion -> pending.remove(completion.taskId(), completion));
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void append(Completion completion) {
+        try {
+            journalChannel.write(ByteBuffer.wrap(completion.toLine().getBytes(StandardCharsets.UTF_8)));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not journal the completion of task " + completion.taskId(), e);
+        }
+        journalLines++;
+        if (appendedDuringCompaction != null) {
+            appendedDuringCompaction.add(completion);
+        }
+    }
+
+    // Runs on the writer thread. The pending set is written and synced outside the lock; submitters only wait
+    // for the lines they appended meanwhile and the rename
+    private void compactIfNeeded() throws IOException {
+        List<Completion> snapshot;
+        lock.lock();
+        try {
+            if (journalLines < 2L * capacity) {
+                return;
+            }
+            snapshot = new ArrayList<>(pending.values());
+            appendedDuringCompaction = new ArrayList<>();
+        } finally {
+            lock.unlock();
+        }
+        Path next = nextJournal();
+        try (FileChannel channel = openNext(next)) {
+            writeLines(channel, snapshot);
+            channel.force(false);
+            lock.lock();
+            try {
+                List<Completion> late = appendedDuringCompaction;
+                writeLines(channel, late);
+                channel.force(false);
+                replaceJournal(next, snapshot.size() + late.size());
+            } finally {
+                lock.unlock();
+            }
+        } finally {
+            lock.lock();
+            try {
+                appendedDuringCompaction = null;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    // At startup, under the lock: the journal becomes exactly the pending completions
+    private void rewriteJournal() throws IOException {
+        Path next = nextJournal();
+        try (FileChannel channel = openNext(next)) {
+            writeLines(channel, pending.values());
+            channel.force(false);
+        }
+        replaceJournal(next, pending.size());
+    }
+
+    // Caller holds the lock and has synced next
+    private void replaceJournal(Path next, long lines) throws IOException {
+        if (journalChannel != null) {
+            journalChannel.close();
+        }
+        Files.move(next, journal, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        // The rename itself is only durable once the directory is synced
+        try (FileChannel directory = FileChannel.open(journal.toAbsolutePath().getParent(), StandardOpenOption.READ)) {
+            directory.force(true);
+        }
+        journalChannel = FileChannel.open(journal, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        journalLines = lines;
+        // Every line appended so far is either in the synced file or no longer pending
+        synced.accumulateAndGet(appended, Math::max);
+    }
+
+    private Path nextJournal() {
+        return journal.resolveSibling(journal.getFileName() + ".next");
+    }
+
+    private static FileChannel openNext(Path next) throws IOException {
+        return FileChannel.open(next, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    private static void writeLines(FileChannel channel, Collection<Completion> completions) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        completions.forEach(completion -> lines.append(completion.toLine()));
+        ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package io.hahnsoftware.backend.service.impl;
+
+import io.hahnsoftware.backend.dto.TaskDTO;
+import io.hahnsoftware.backend.entity.Task;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Caches each owner's status and priority task lists. Writers name the lists a change touches and the entries
+ * are evicted once the transaction commits, so readers never cache a state that is about to change.
+ */
+@Component
+@RequiredArgsConstructor
+class TaskListCache {
+
+    static final String CACHE_NAME = "taskLists";
+
+    private final CacheManager cacheManager;
+
+    List<TaskDTO> byStatus(Long ownerId, Task.TaskStatus status, Supplier<List<TaskDTO>> loader) {
+        return cache().get(statusKey(ownerId, status), () -> List.copyOf(loader.get()));
+    }
+
+    List<TaskDTO> byPriority(Long ownerId, Task.TaskPriority priority, Supplier<List<TaskDTO>> loader) {
+        return cache().get(priorityKey(ownerId, priority), () -> List.copyOf(loader.get()));
+    }
+
+    // Keys of every list a task appears in, before or after a change
+    static void addKeys(Set<String> keys, Long ownerId, Task.TaskStatus status, Task.TaskPriority priority) {
+        if (status != null) {
+            keys.add(statusKey(ownerId, status));
+        }
+        if (priority != null) {
+            keys.add(priorityKey(ownerId, priority));
+        }
+    }
+
+    static void addAllStatusKeys(Set<String> keys, Long ownerId) {
+        for (Task.TaskStatus status : Task.TaskStatus.values()) {
+            keys.add(statusKey(ownerId, status));
+        }
+    }
+
+    static void addAllKeys(Set<String> keys, Long ownerId) {
+        addAllStatusKeys(keys, ownerId);
+        for (Task.TaskPriority priority : Task.TaskPriority.values()) {
+            keys.add(priorityKey(ownerId, priority));
+        }
+    }
+
+    void evictAfterCommit(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        Set<String> pending = new HashSet<>(keys);
+        afterCommit(() -> pending.forEach(cache()::evict));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private Cache cache() {
+        return cacheManager.getCache(CACHE_NAME);
+    }
+
+    static String statusKey(Long ownerId, Task.TaskStatus status) {
+        return ownerId + ":status:" + status;
+    }
+
+    static String priorityKey(Long ownerId, Task.TaskPriority priority) {
+        return ownerId + ":priority:" + priority;
+    }
+}
@@ -1,103 +1,517 @@
 package io.hahnsoftware.backend.service.impl;
 
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.hahnsoftware.backend.dto.TaskBatchResultDTO;
 import io.hahnsoftware.backend.dto.TaskDTO;
+import io.hahnsoftware.backend.dto.TaskPageDTO;
+import io.hahnsoftware.backend.dto.TaskPageRequest;
 import io.hahnsoftware.backend.entity.Task;
+import io.hahnsoftware.backend.entity.User;
+import io.hahnsoftware.backend.event.TaskChangedEvent;
+import io.hahnsoftware.backend.exception.BadRequestException;
+import io.hahnsoftware.backend.exception.ConflictException;
+import io.hahnsoftware.backend.exception.PreconditionFailedException;
 import io.hahnsoftware.backend.exception.ResourceNotFoundException;
+import io.hahnsoftware.backend.mapper.TaskMapper;
 import io.hahnsoftware.backend.repository.TaskRepository;
 import io.hahnsoftware.backend.service.TaskService;
-import org.modelmapper.ModelMapper;
+import jakarta.persistence.CacheRetrieveMode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.hibernate.jpa.SpecHints;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Sort;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static io.hahnsoftware.backend.repository.TaskSpecifications.*;
 
 @Service
 public class TaskServiceImpl implements TaskService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_BATCH_SIZE = 1000;
+    private static final Map<String, Object> BYPASS_CACHE =
+            Map.of(SpecHints.HINT_SPEC_CACHE_RETRIEVE_MODE, CacheRetrieveMode.BYPASS);
     
     @Autowired
     private TaskRepository taskRepository;
     
     @Autowired
-    private ModelMapper modelMapper;
+    private TaskMapper taskMapper;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TaskListCache taskListCache;
+
+    @Autowired
+    private TaskCompletionQueue completionQueue;
+
+    @PersistenceContext
+    private EntityManager entityManager;
 
     @Override
-    public TaskDTO addTask(TaskDTO taskDTO) {
+    @Transactional
+    public TaskDTO addTask(Long ownerId, TaskDTO taskDTO) {
         // convert TaskDTO into Task Jpa entity
-        Task task = modelMapper.map(taskDTO, Task.class);
-        // Set default status if not provided
-        if (task.getStatus() == null) {
-            task.setStatus(Task.TaskStatus.TODO);
-        }
-        // Set default priority if not provided
-        if (task.getPriority() == null) {
-            task.setPriority(Task.TaskPriority.MEDIUM);
-        }
-        // Task Jpa entity
-        Task savedTask = taskRepository.save(task);
+        Task task = taskMapper.toEntity(taskDTO);
+        // Ids are assigned by the server; a client-sent id would make this a merge of a task that does not exist
+        task.setId(null);
+        applyDefaults(task);
+        task.setOwner(owner(ownerId));
+        // Task Jpa entity, flushed so generated timestamps are part of the response
+        Task savedTask = taskRepository.saveAndFlush(task);
         // Convert saved Task Jpa entity object into TaskDto object
-        TaskDTO savedTaskDto = modelMapper.map(savedTask, TaskDTO.class);
+        TaskDTO savedTaskDto = taskMapper.toDto(savedTask);
+        Set<String> affectedLists = new HashSet<>();
+        TaskListCache.addKeys(affectedLists, ownerId, savedTask.getStatus(), savedTask.getPriority());
+        taskListCache.evictAfterCommit(affectedLists);
+        eventPublisher.publishEvent(TaskChangedEvent.created(ownerId, savedTaskDto));
 
         return savedTaskDto;
     }
 
     @Override
-    public TaskDTO getTask(Long id) {
-        Task task = taskRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id:" + id));
-        return modelMapper.map(task, TaskDTO.class);
+    @Transactional(readOnly = true)
+    public TaskDTO getTask(Long ownerId, Long id) {
+        Task task = findOwned(ownerId, id);
+        return taskMapper.toDto(task);
     }
 
     @Override
-    public List<TaskDTO> getAllTasks() {
-        List<Task> tasks = taskRepository.findAll();
-        return tasks.stream().map((task -> modelMapper.map(task, TaskDTO.class))).collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public List<TaskDTO> getAllTasks(Long ownerId) {
+        List<Task> tasks = taskRepository.findByOwnerId(ownerId);
+        return taskMapper.toDtoList(tasks);
     }
 
     @Override
-    public List<TaskDTO> getTasksByStatus(String status) {
+    @Transactional(readOnly = true)
+    public TaskPageDTO getTaskPage(Long ownerId, TaskPageRequest request) {
+        String sort = request.getSort();
+        if (!"updatedAt".equals(sort) && !"dueDate".equals(sort)) {
+            throw new BadRequestException("Unsupported sort: " + sort);
+        }
+        Sort.Direction direction = Sort.Direction.fromOptionalString(request.getDirection())
+                .orElseThrow(() -> new BadRequestException("Unsupported direction: " + request.getDirection()));
+        int size = Math.max(1, Math.min(request.getSize(), MAX_PAGE_SIZE));
+
+        Specification<Task> spec = Specification.allOf(
+                ownedBy(ownerId),
+                statusIn(request.getStatus()),
+                priorityIn(request.getPriority()),
+                dueAfter(request.getDueAfter()),
+                dueBefore(request.getDueBefore()),
+                // Tasks without a due date have no position in a due date ordering
+                "dueDate".equals(sort) ? hasValue(sort) : null);
+        if (request.getCursor() != null && !request.getCursor().isBlank()) {
+            spec = spec.and(afterCursor(TaskCursor.decode(request.getCursor(), sort), direction));
+        }
+
+        // Fetch one extra row to know whether another page exists without a count query
+        Sort order = Sort.by(direction, sort).and(Sort.by(direction, "id"));
+        List<Task> tasks = taskRepository.findBy(spec, query -> query.sortBy(order).limit(size + 1).all());
+
+        boolean hasMore = tasks.size() > size;
+        List<Task> page = hasMore ? tasks.subList(0, size) : tasks;
+        String nextCursor = null;
+        if (hasMore) {
+            Task last = page.get(page.size() - 1);
+            Object value = "dueDate".equals(sort) ? last.getDueDate() : last.getUpdatedAt();
+            nextCursor = new TaskCursor(sort, value.toString(), last.getId()).encode();
+        }
+        List<TaskDTO> items = taskMapper.toDtoList(page);
+        return new TaskPageDTO(items, nextCursor, hasMore);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportTasks(Long ownerId, OutputStream outputStream) throws IOException {
+        // One JSON document per line, flushed once per fetch; the response stream stays open for the caller
+        SequenceWriter writer = objectMapper.writerFor(TaskDTO.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .withRootValueSeparator("\n")
+                .writeValues(outputStream);
+        try (Stream<Task> tasks = taskRepository.streamByOwnerOrderById(ownerId)) {
+            int count = 0;
+            Iterator<Task> iterator = tasks.iterator();
+            while (iterator.hasNext()) {
+                writer.write(taskMapper.toDto(iterator.next()));
+                // Detach exported rows so the persistence context does not grow with the table
+                if (++count % TaskRepository.EXPORT_FETCH_SIZE == 0) {
+                    writer.flush();
+                    entityManager.clear();
+                }
+            }
+            writer.flush();
+            // The generator only writes the separator between values; end the last line after its output
+            if (count > 0) {
+                outputStream.write('\n');
+            }
+        }
+        writer.close();
+    }
+
+    private Specification<Task> afterCursor(TaskCursor cursor, Sort.Direction direction) {
+        try {
+            if ("dueDate".equals(cursor.sort())) {
+                return after("dueDate", LocalDate.parse(cursor.value()), cursor.id(), direction);
+            }
+            return after("updatedAt", LocalDateTime.parse(cursor.value()), cursor.id(), direction);
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TaskDTO> getTasksByStatus(Long ownerId, String status) {
         Task.TaskStatus taskStatus = Task.TaskStatus.valueOf(status.toUpperCase());
-        List<Task> tasks = taskRepository.findByStatus(taskStatus);
-        return tasks.stream().map((task -> modelMapper.map(task, TaskDTO.class))).collect(Collectors.toList());
+        return taskListCache.byStatus(ownerId, taskStatus,
+                () -> taskMapper.toDtoList(taskRepository.findByOwnerIdAndStatus(ownerId, taskStatus)));
     }
 
     @Override
-    public List<TaskDTO> getTasksByPriority(String priority) {
+    @Transactional(readOnly = true)
+    public List<TaskDTO> getTasksByPriority(Long ownerId, String priority) {
         Task.TaskPriority taskPriority = Task.TaskPriority.valueOf(priority.toUpperCase());
-        List<Task> tasks = taskRepository.findByPriority(taskPriority);
-        return tasks.stream().map((task -> modelMapper.map(task, TaskDTO.class))).collect(Collectors.toList());
+        return taskListCache.byPriority(ownerId, taskPriority,
+                () -> taskMapper.toDtoList(taskRepository.findByOwnerIdAndPriority(ownerId, taskPriority)));
+    }
+
+    @Override
+    @Transactional
+    public TaskDTO updateTask(Long ownerId, TaskDTO taskDTO, Long id, Long expectedVersion) {
+        Task task = findOwned(ownerId, id);
+        if (expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+            throw versionMismatch(id);
+        }
+        Set<String> affectedLists = new HashSet<>();
+        TaskListCache.addKeys(affectedLists, ownerId, task.getStatus(), task.getPriority());
+        applyChanges(taskDTO, task);
+        TaskListCache.addKeys(affectedLists, ownerId, task.getStatus(), task.getPriority());
+        Task updatedTask;
+        try {
+            // Versioned UPDATE: a concurrent writer since the read surfaces as a conflict
+            updatedTask = taskRepository.saveAndFlush(task);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            throw new ConflictException("Task " + id + " was modified concurrently");
+        }
+        TaskDTO updatedTaskDto = taskMapper.toDto(updatedTask);
+        taskListCache.evictAfterCommit(affectedLists);
+        eventPublisher.publishEvent(TaskChangedEvent.updated(ownerId, updatedTaskDto));
+        return updatedTaskDto;
+    }
+
+    @Override
+    @Transactional
+    public void deleteTask(Long ownerId, Long id, Long expectedVersion) {
+        int deleted = expectedVersion == null
+                ? taskRepository.deleteOne(id, ownerId)
+                : taskRepository.deleteOneIfVersion(id, ownerId, expectedVersion);
+        if (deleted == 0) {
+            throw missingOrChanged(ownerId, id, expectedVersion);
+        }
+        // The statement does not tell which of the owner's lists held the task
+        Set<String> affectedLists = new HashSet<>();
+        TaskListCache.addAllKeys(affectedLists, ownerId);
+        taskListCache.evictAfterCommit(affectedLists);
+        eventPublisher.publishEvent(TaskChangedEvent.deleted(ownerId, id));
+    }
+    
+    @Override
+    @Transactional
+    public TaskDTO markTaskAsCompleted(Long ownerId, Long id, Long expectedVersion) {
+        LocalDateTime now = LocalDateTime.now();
+        // Write-behind: acknowledged once journaled. A conditional request needs the version it produces,
+        // so it is always written right away.
+        if (expectedVersion == null && completionQueue.isEnabled()) {
+            TaskDTO accepted = taskMapper.toDto(findOwned(ownerId, id));
+            completionQueue.submit(ownerId, id, now);
+            accepted.setStatus(Task.TaskStatus.COMPLETED);
+            accepted.setCompletedAt(now);
+            // Assigned when the completion is written
+            accepted.setVersion(null);
+            return accepted;
+        }
+        int updated = expectedVersion == null
+                ? taskRepository.updateStatus(id, ownerId, Task.TaskStatus.COMPLETED, now)
+                : taskRepository.updateStatusIfVersion(id, ownerId, expectedVersion, Task.TaskStatus.COMPLETED, now);
+        if (updated == 0) {
+            throw missingOrChanged(ownerId, id, expectedVersion);
+        }
+        // The row is locked by the update until commit, so this read sees exactly what was written.
+        // The second-level cache still holds the old state until the transaction completes, so skip it.
+        Task completedTask = entityManager.find(Task.class, id, BYPASS_CACHE);
+        if (completedTask == null) {
+            throw taskNotFound(id);
+        }
+        TaskDTO completedTaskDto = taskMapper.toDto(completedTask);
+        // Priority is unchanged and known; the previous status is not
+        Set<String> affectedLists = new HashSet<>();
+        TaskListCache.addKeys(affectedLists, ownerId, null, completedTask.getPriority());
+        TaskListCache.addAllStatusKeys(affectedLists, ownerId);
+        taskListCache.evictAfterCommit(affectedLists);
+        eventPublisher.publishEvent(TaskChangedEvent.completed(ownerId, completedTaskDto));
+        return completedTaskDto;
+    }
+
+    @Override
+    @Transactional
+    public List<TaskBatchResultDTO> addTasks(Long ownerId, List<TaskDTO> taskDTOs) {
+        checkBatchSize(taskDTOs.size());
+        User owner = owner(ownerId);
+        List<TaskBatchResultDTO> results = new ArrayList<>(taskDTOs.size());
+        List<Task> tasks = new ArrayList<>(taskDTOs.size());
+        for (int i = 0; i < taskDTOs.size(); i++) {
+            String violations = validate(taskDTOs.get(i));
+            if (violations != null) {
+                results.add(new TaskBatchResultDTO(i, null, TaskBatchResultDTO.Outcome.INVALID, violations, null));
+                continue;
+            }
+            Task task = taskMapper.toEntity(taskDTOs.get(i));
+            task.setId(null);
+            applyDefaults(task);
+            task.setOwner(owner);
+            tasks.add(task);
+            results.add(new TaskBatchResultDTO(i, null, TaskBatchResultDTO.Outcome.CREATED, null, null));
+        }
+        // Ids come from the pooled sequence, so the inserts go out as JDBC batches on flush
+        taskRepository.saveAll(tasks);
+        taskRepository.flush();
+        Set<String> affectedLists = new HashSet<>();
+        tasks.forEach(task -> TaskListCache.addKeys(affectedLists, ownerId, task.getStatus(), task.getPriority()));
+        taskListCache.evictAfterCommit(affectedLists);
+        Iterator<Task> saved = tasks.iterator();
+        for (TaskBatchResultDTO result : results) {
+            if (result.getOutcome() == TaskBatchResultDTO.Outcome.CREATED) {
+                Task task = saved.next();
+                result.setId(task.getId());
+                result.setTask(taskMapper.toDto(task));
+                eventPublisher.publishEvent(TaskChangedEvent.created(ownerId, result.getTask()));
+            }
+        }
+        return results;
+    }
+
+    @Override
+    @Transactional
+    public List<TaskBatchResultDTO> updateTasks(Long ownerId, List<TaskDTO> taskDTOs) {
+        checkBatchSize(taskDTOs.size());
+        Map<Long, Task> tasks = findAllOwned(ownerId, taskDTOs.stream().map(TaskDTO::getId).collect(Collectors.toList()));
+        List<TaskBatchResultDTO> results = new ArrayList<>(taskDTOs.size());
+        Set<String> affectedLists = new HashSet<>();
+        for (int i = 0; i < taskDTOs.size(); i++) {
+            TaskDTO taskDTO = taskDTOs.get(i);
+            Task task = tasks.get(taskDTO.getId());
+            String violations = validate(taskDTO);
+            if (task == null) {
+                results.add(notFound(i, taskDTO.getId()));
+            } else if (taskDTO.getVersion() != null && !taskDTO.getVersion().equals(task.getVersion())) {
+                results.add(new TaskBatchResultDTO(i, task.getId(), TaskBatchResultDTO.Outcome.CONFLICT,
+                        "Expected version " + taskDTO.getVersion() + " but was " + task.getVersion(), null));
+            } else if (violations != null) {
+                results.add(new TaskBatchResultDTO(i, task.getId(), TaskBatchResultDTO.Outcome.INVALID, violations, null));
+            } else {
+                TaskListCache.addKeys(affectedLists, ownerId, task.getStatus(), task.getPriority());
+                applyChanges(taskDTO, task);
+                TaskListCache.addKeys(affectedLists, ownerId, task.getStatus(), task.getPriority());
+                results.add(new TaskBatchResultDTO(i, task.getId(), TaskBatchResultDTO.Outcome.UPDATED, null, null));
+            }
+        }
+        // Dirty entities are written as ordered, batched, versioned updates
+        flushVersioned();
+        taskListCache.evictAfterCommit(affectedLists);
+        fillTasks(results, tasks, TaskBatchResultDTO.Outcome.UPDATED);
+        results.stream().filter(result -> result.getOutcome() == TaskBatchResultDTO.Outcome.UPDATED)
+                .forEach(result -> eventPublisher.publishEvent(TaskChangedEvent.updated(ownerId, result.getTask())));
+        return results;
+    }
+
+    @Override
+    @Transactional
+    public List<TaskBatchResultDTO> markTasksAsCompleted(Long ownerId, List<Long> ids) {
+        checkBatchSize(ids.size());
+        Map<Long, Task> tasks = findAllOwned(ownerId, ids);
+        LocalDateTime now = LocalDateTime.now();
+        List<TaskBatchResultDTO> results = new ArrayList<>(ids.size());
+        Set<String> affectedLists = new HashSet<>();
+        for (int i = 0; i < ids.size(); i++) {
+            Task task = tasks.get(ids.get(i));
+            if (task == null) {
+                results.add(notFound(i, ids.get(i)));
+                continue;
+            }
+            TaskListCache.addKeys(affectedLists, ownerId, task.getStatus(), task.getPriority());
+            task.setStatus(Task.TaskStatus.COMPLETED);
+            task.setCompletedAt(now);
+            TaskListCache.addKeys(affectedLists, ownerId, task.getStatus(), null);
+            results.add(new TaskBatchResultDTO(i, task.getId(), TaskBatchResultDTO.Outcome.COMPLETED, null, null));
+        }
+        flushVersioned();
+        taskListCache.evictAfterCommit(affectedLists);
+        fillTasks(results, tasks, TaskBatchResultDTO.Outcome.COMPLETED);
+        results.stream().filter(result -> result.getOutcome() == TaskBatchResultDTO.Outcome.COMPLETED)
+                .forEach(result -> eventPublisher.publishEvent(TaskChangedEvent.completed(ownerId, result.getTask())));
+        return results;
     }
 
     @Override
-    public TaskDTO updateTask(TaskDTO taskDTO, Long id) {
-        Task task = taskRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id:" + id));
+    @Transactional
+    public List<TaskBatchResultDTO> deleteTasks(Long ownerId, List<Long> ids) {
+        checkBatchSize(ids.size());
+        List<Long> present = ids.stream().filter(Objects::nonNull).collect(Collectors.toList());
+        Set<Long> existing = present.isEmpty()
+                ? new HashSet<>()
+                : new HashSet<>(taskRepository.findExistingIds(ownerId, present));
+        List<TaskBatchResultDTO> results = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            Long id = ids.get(i);
+            results.add(existing.contains(id)
+                    ? new TaskBatchResultDTO(i, id, TaskBatchResultDTO.Outcome.DELETED, null, null)
+                    : notFound(i, id));
+        }
+        // A single DELETE ... WHERE id IN (...) for the whole batch; the ids were checked against the owner above
+        if (!existing.isEmpty()) {
+            taskRepository.deleteAllByIdInBatch(existing);
+            Set<String> affectedLists = new HashSet<>();
+            TaskListCache.addAllKeys(affectedLists, ownerId);
+            taskListCache.evictAfterCommit(affectedLists);
+            existing.forEach(id -> eventPublisher.publishEvent(TaskChangedEvent.deleted(ownerId, id)));
+        }
+        return results;
+    }
+
+    private void applyDefaults(Task task) {
+        // Set default status if not provided
+        if (task.getStatus() == null) {
+            task.setStatus(Task.TaskStatus.TODO);
+        }
+        // Set default priority if not provided
+        if (task.getPriority() == null) {
+            task.setPriority(Task.TaskPriority.MEDIUM);
+        }
+    }
+
+    private void applyChanges(TaskDTO taskDTO, Task task) {
         task.setTitle(taskDTO.getTitle());
         task.setDescription(taskDTO.getDescription());
         task.setStatus(taskDTO.getStatus());
         task.setPriority(taskDTO.getPriority());
         task.setDueDate(taskDTO.getDueDate());
-        Task updatedTask = taskRepository.save(task);
-        return modelMapper.map(updatedTask, TaskDTO.class);
     }
 
-    @Override
-    public void deleteTask(Long id) {
-        Task task = taskRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id:" + id));
-        taskRepository.deleteById(id);
+    private void checkBatchSize(int size) {
+        if (size > MAX_BATCH_SIZE) {
+            throw new BadRequestException("Batch size must be at most " + MAX_BATCH_SIZE);
+        }
     }
-    
-    @Override
-    public TaskDTO markTaskAsCompleted(Long id) {
-        Task task = taskRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id:" + id));
-        task.setStatus(Task.TaskStatus.COMPLETED);
-        task.setCompletedAt(LocalDateTime.now());
-        Task completedTask = taskRepository.save(task);
-        return modelMapper.map(completedTask, TaskDTO.class);
-    }
-} 
\ No newline at end of file
+
+    private String validate(TaskDTO taskDTO) {
+        Set<ConstraintViolation<TaskDTO>> violations = validator.validate(taskDTO);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream().map(ConstraintViolation::getMessage).sorted().collect(Collectors.joining("; "));
+    }
+
+    // Served by the second-level cache when the entity is cached; the owner check runs on the loaded task
+    private Task findOwned(Long ownerId, Long id) {
+        return taskRepository.findById(id)
+                .filter(task -> isOwnedBy(task, ownerId))
+                .orElseThrow(() -> taskNotFound(id));
+    }
+
+    private Map<Long, Task> findAllOwned(Long ownerId, List<Long> ids) {
+        // Lookups by a missing (null) id must return null rather than throw
+        List<Long> present = ids.stream().filter(Objects::nonNull).collect(Collectors.toList());
+        if (present.isEmpty()) {
+            return new HashMap<>();
+        }
+        return taskRepository.findAllById(present).stream()
+                .filter(task -> isOwnedBy(task, ownerId))
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+    }
+
+    // Reading the id of the lazy owner reference does not load the user
+    private static boolean isOwnedBy(Task task, Long ownerId) {
+        return task.getOwner() != null && task.getOwner().getId().equals(ownerId);
+    }
+
+    // A reference only; the foreign key is all the insert needs
+    private User owner(Long ownerId) {
+        return entityManager.getReference(User.class, ownerId);
+    }
+
+    private void flushVersioned() {
+        try {
+            taskRepository.flush();
+        } catch (ObjectOptimisticLockingFailureException e) {
+            throw new ConflictException("Tasks were modified concurrently, retry the batch");
+        }
+    }
+
+    private ResourceNotFoundException taskNotFound(Long id) {
+        return new ResourceNotFoundException("Task not found with id:" + id);
+    }
+
+    private PreconditionFailedException versionMismatch(Long id) {
+        return new PreconditionFailedException("Task " + id + " does not match the expected version");
+    }
+
+    // Only reached when a conditional statement touched no row, so the extra lookup is off the hot path
+    private RuntimeException missingOrChanged(Long ownerId, Long id, Long expectedVersion) {
+        if (expectedVersion != null && taskRepository.existsByIdAndOwnerId(id, ownerId)) {
+            return versionMismatch(id);
+        }
+        return taskNotFound(id);
+    }
+
+    private TaskBatchResultDTO notFound(int index, Long id) {
+        return new TaskBatchResultDTO(index, id, TaskBatchResultDTO.Outcome.NOT_FOUND, "Task not found with id:" + id, null);
+    }
+
+    private void fillTasks(List<TaskBatchResultDTO> results, Map<Long, Task> tasks, TaskBatchResultDTO.Outcome outcome) {
+        for (TaskBatchResultDTO result : results) {
+            if (result.getOutcome() == outcome) {
+                result.setTask(taskMapper.toDto(tasks.get(result.getId())));
+            }
+        }
+    }
+}
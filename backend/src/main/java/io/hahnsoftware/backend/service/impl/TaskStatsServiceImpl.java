@@ -0,0 +1,97 @@
+package io.hahnsoftware.backend.service.impl;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.hahnsoftware.backend.dto.TaskStatsDTO;
+import io.hahnsoftware.backend.entity.Task;
+import io.hahnsoftware.backend.repository.TaskRepository;
+import io.hahnsoftware.backend.service.TaskStatsService;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Service
+@RequiredArgsConstructor
+public class TaskStatsServiceImpl implements TaskStatsService {
+
+    private static final int MAX_DAYS = 365;
+    private static final int MAX_SNAPSHOTS = 10_000;
+
+    // Dashboards refresh often; a snapshot this old is served instead of querying again (0 disables)
+    @Value("${task.stats.cache-ttl:5s}")
+    private Duration cacheTtl;
+
+    private final TaskRepository taskRepository;
+
+    private final PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readOnlyTransaction;
+    private LoadingCache<SnapshotKey, TaskStatsDTO> snapshots;
+
+    @PostConstruct
+    public void init() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        snapshots = Caffeine.newBuilder()
+                .maximumSize(MAX_SNAPSHOTS)
+                .expireAfterWrite(cacheTtl)
+                .build(key -> computeStats(key.ownerId(), key.days()));
+    }
+
+    @Override
+    public TaskStatsDTO getStats(Long ownerId, int days) {
+        int window = Math.max(1, Math.min(days, MAX_DAYS));
+        return cacheTtl.isZero() ? computeStats(ownerId, window) : snapshots.get(new SnapshotKey(ownerId, window));
+    }
+
+    private TaskStatsDTO computeStats(Long ownerId, int days) {
+        return readOnlyTransaction.execute(status -> {
+            LocalDate today = LocalDate.now();
+
+            long total = 0;
+            Map<Task.TaskStatus, Map<Task.TaskPriority, Long>> counts = new EnumMap<>(Task.TaskStatus.class);
+            for (Task.TaskStatus taskStatus : Task.TaskStatus.values()) {
+                Map<Task.TaskPriority, Long> byPriority = new EnumMap<>(Task.TaskPriority.class);
+                for (Task.TaskPriority priority : Task.TaskPriority.values()) {
+                    byPriority.put(priority, 0L);
+                }
+                counts.put(taskStatus, byPriority);
+            }
+            for (TaskRepository.StatusPriorityCount count : taskRepository.countByStatusAndPriority(ownerId)) {
+                counts.get(count.getStatus()).put(count.getPriority(), count.getCount());
+                total += count.getCount();
+            }
+
+            LocalDate firstDay = today.minusDays(days - 1L);
+            Map<LocalDate, Long> completedPerDay = new TreeMap<>();
+            for (LocalDate day = firstDay; !day.isAfter(today); day = day.plusDays(1)) {
+                completedPerDay.put(day, 0L);
+            }
+            for (TaskRepository.DayCount count : taskRepository.countCompletedPerDay(ownerId, firstDay.atStartOfDay())) {
+                completedPerDay.computeIfPresent(count.getDay(), (day, zero) -> count.getCount());
+            }
+
+            Double leadTimeSeconds = taskRepository.averageLeadTimeSeconds(ownerId);
+            return new TaskStatsDTO(
+                    total,
+                    counts,
+                    taskRepository.countOverdue(ownerId, today),
+                    completedPerDay,
+                    leadTimeSeconds == null ? null : leadTimeSeconds / 3600.0,
+                    LocalDateTime.now());
+        });
+    }
+
+    private record SnapshotKey(Long ownerId, int days) {
+    }
+}
@@ -0,0 +1,273 @@
+package io.hahnsoftware.backend.service.impl;
+
+import io.hahnsoftware.backend.event.TaskChangedEvent;
+import io.hahnsoftware.backend.exception.ServiceUnavailableException;
+import io.hahnsoftware.backend.service.TaskStreamService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pushes committed task changes to the SSE subscribers of the task's owner. Idle connections are parked
+ * servlet async requests, so they hold no thread. A small scheduler only runs timers; the blocking writes go
+ * to a separate writer pool, at most one at a time per subscriber, so a slow client holds at most one writer
+ * and never delays heartbeats or other subscribers' flushes. A write that takes longer than the write timeout
+ * drops its subscriber.
+ */
+@Slf4j
+@Service
+public class TaskStreamServiceImpl implements TaskStreamService {
+
+    @Value("${task.stream.timeout:30m}")
+    private Duration timeout;
+
+    @Value("${task.stream.heartbeat:15s}")
+    private Duration heartbeat;
+
+    // Changes arriving within this window are sent as one message, latest state per task
+    @Value("${task.stream.coalesce-window:200ms}")
+    private Duration coalesceWindow;
+
+    // Distinct pending tasks per connection before it is told to resync instead
+    @Value("${task.stream.buffer-size:256}")
+    private int bufferSize;
+
+    @Value("${task.stream.max-subscribers:10000}")
+    private int maxSubscribers;
+
+    @Value("${task.stream.threads:2}")
+    private int threads;
+
+    @Value("${task.stream.writer-threads:8}")
+    private int writerThreads;
+
+    @Value("${task.stream.write-timeout:10s}")
+    private Duration writeTimeout;
+
+    // A change is only offered to its owner's connections
+    private final Map<Long, Set<Subscriber>> subscribersByOwner = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    private ScheduledExecutorService scheduler;
+    private ExecutorService writer;
+
+    @PostConstruct
+    public void init() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("task-stream-");
+        threadFactory.setDaemon(true);
+        scheduler = Executors.newScheduledThreadPool(threads, threadFactory);
+        CustomizableThreadFactory writerThreadFactory = new CustomizableThreadFactory("task-stream-writer-");
+        writerThreadFactory.setDaemon(true);
+        // Each subscriber queues at most one write, so the queue is bounded by the subscriber limit
+        writer = Executors.newFixedThreadPool(writerThreads, writerThreadFactory);
+        scheduler.scheduleAtFixedRate(this::sendHeartbeats,
+                heartbeat.toMillis(), heartbeat.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        writer.shutdownNow();
+        subscribersByOwner.values().forEach(subscribers -> subscribers.forEach(subscriber -> subscriber.emitter.complete()));
+        subscribersByOwner.clear();
+        subscriberCount.set(0);
+    }
+
+    @Override
+    public SseEmitter subscribe(Long ownerId) {
+        if (subscriberCount.get() >= maxSubscribers) {
+            throw new ServiceUnavailableException("Too many task stream subscribers");
+        }
+        Subscriber subscriber = new Subscriber(ownerId, new SseEmitter(timeout.toMillis()));
+        subscriber.emitter.onCompletion(() -> remove(subscriber));
+        subscriber.emitter.onTimeout(() -> remove(subscriber));
+        subscriber.emitter.onError(error -> remove(subscriber));
+        subscribersByOwner.compute(ownerId, (owner, subscribers) -> {
+            Set<Subscriber> owned = subscribers == null ? ConcurrentHashMap.newKeySet() : subscribers;
+            if (owned.add(subscriber)) {
+                subscriberCount.incrementAndGet();
+            }
+            return owned;
+        });
+        // Sent right away so the client sees the stream open
+        subscriber.send(SseEmitter.event().reconnectTime(heartbeat.toMillis()).comment("connected"));
+        return subscriber.emitter;
+    }
+
+    @Override
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    // Only committed changes are pushed; the commit thread just enqueues
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        for (Subscriber subscriber : subscribersByOwner.getOrDefault(event.ownerId(), Set.of())) {
+            subscriber.offer(event);
+        }
+    }
+
+    private void sendHeartbeats() {
+        long now = System.nanoTime();
+        for (Set<Subscriber> subscribers : subscribersByOwner.values()) {
+            for (Subscriber subscriber : subscribers) {
+                subscriber.heartbeat(now);
+            }
+        }
+    }
+
+    // Completion, timeout, error and failed sends may all remove the same subscriber
+    private void remove(Subscriber subscriber) {
+        subscribersByOwner.computeIfPresent(subscriber.ownerId, (owner, subscribers) -> {
+            if (subscribers.remove(subscriber)) {
+                subscriberCount.decrementAndGet();
+            }
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    private final class Subscriber {
+        private final Long ownerId;
+        private final SseEmitter emitter;
+
+        // Guarded by this
+        private final LinkedHashMap<Long, TaskChangedEvent> pending = new LinkedHashMap<>();
+        private boolean overflowed;
+        private boolean heartbeatDue;
+        private boolean flushScheduled;
+        // A write task is queued or running on the writer pool
+        private boolean writing;
+        // System.nanoTime() when the write in progress started, 0 when none is
+        private long writeStartedAt;
+        private boolean closed;
+
+        private Subscriber(Long ownerId, SseEmitter emitter) {
+            this.ownerId = ownerId;
+            this.emitter = emitter;
+        }
+
+        private void offer(TaskChangedEvent event) {
+            boolean schedule;
+            synchronized (this) {
+                if (!overflowed) {
+                    // Re-inserted so the map stays ordered by each task's latest change
+                    pending.remove(event.taskId());
+                    pending.put(event.taskId(), event);
+                    if (pending.size() > bufferSize) {
+                        pending.clear();
+                        overflowed = true;
+                    }
+                }
+                schedule = !flushScheduled;
+                flushScheduled = true;
+            }
+            if (schedule) {
+                scheduler.schedule(this::flush, coalesceWindow.toMillis(), TimeUnit.MILLISECONDS);
+            }
+        }
+
+        private void flush() {
+            synchronized (this) {
+                flushScheduled = false;
+            }
+            requestWrite();
+        }
+
+        // Also the write timeout check, so a stuck write is noticed within one heartbeat of expiring
+        private void heartbeat(long now) {
+            boolean timedOut;
+            synchronized (this) {
+                timedOut = writeStartedAt != 0 && now - writeStartedAt > writeTimeout.toNanos();
+                heartbeatDue = true;
+            }
+            if (timedOut) {
+                drop(new IOException("Write timed out after " + writeTimeout));
+            } else {
+                requestWrite();
+            }
+        }
+
+        private void requestWrite() {
+            synchronized (this) {
+                if (writing || closed) {
+                    return;
+                }
+                writing = true;
+            }
+            writer.execute(this::write);
+        }
+
+        // Runs on the writer pool; keeps writing until nothing is left, including changes that came in meanwhile
+        private void write() {
+            while (true) {
+                List<TaskChangedEvent> events;
+                boolean resync;
+                boolean heartbeat;
+                synchronized (this) {
+                    events = new ArrayList<>(pending.values());
+                    pending.clear();
+                    resync = overflowed;
+                    overflowed = false;
+                    heartbeat = heartbeatDue;
+                    heartbeatDue = false;
+                    if (closed || (!resync && events.isEmpty() && !heartbeat)) {
+                        writing = false;
+                        return;
+                    }
+                    writeStartedAt = System.nanoTime();
+                }
+                if (resync) {
+                    send(SseEmitter.event().name("resync").data("{}", MediaType.APPLICATION_JSON));
+                } else if (!events.isEmpty()) {
+                    send(SseEmitter.event().name("tasks").data(events, MediaType.APPLICATION_JSON));
+                } else {
+                    send(SseEmitter.event().comment("heartbeat"));
+                }
+                synchronized (this) {
+                    writeStartedAt = 0;
+                }
+            }
+        }
+
+        private void send(SseEmitter.SseEventBuilder event) {
+            try {
+                emitter.send(event);
+            } catch (IOException | IllegalStateException e) {
+                drop(e);
+            }
+        }
+
+        // A timed out write may still fail later, so this can run twice
+        private void drop(Exception cause) {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+            }
+            log.debug("Dropping task stream subscriber: {}", cause.getMessage());
+            remove(this);
+            emitter.completeWithError(cause);
+        }
+    }
+}
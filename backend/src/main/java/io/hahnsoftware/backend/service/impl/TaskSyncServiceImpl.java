@@ -0,0 +1,117 @@
+package io.hahnsoftware.backend.service.impl;
+
+import io.hahnsoftware.backend.dto.TaskChangesDTO;
+import io.hahnsoftware.backend.dto.TaskListVersion;
+import io.hahnsoftware.backend.entity.TaskTombstone;
+import io.hahnsoftware.backend.event.TaskChangedEvent;
+import io.hahnsoftware.backend.exception.BadRequestException;
+import io.hahnsoftware.backend.mapper.TaskMapper;
+import io.hahnsoftware.backend.repository.TaskRepository;
+import io.hahnsoftware.backend.repository.TaskTombstoneRepository;
+import io.hahnsoftware.backend.service.TaskSyncService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TaskSyncServiceImpl implements TaskSyncService {
+
+    // Larger deltas are cheaper to reload through /export or /page
+    static final int MAX_CHANGES = 1000;
+
+    // Rows stamped just before until may belong to transactions that have not committed yet
+    @Value("${task.sync.commit-grace:2s}")
+    private Duration commitGrace;
+
+    @Value("${task.sync.tombstone-retention:30d}")
+    private Duration tombstoneRetention;
+
+    private final TaskRepository taskRepository;
+
+    private final TaskTombstoneRepository taskTombstoneRepository;
+
+    private final TaskMapper taskMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public TaskListVersion getListVersion(Long ownerId) {
+        TaskRepository.ListSummary summary = taskRepository.summarize(ownerId);
+        LocalDateTime lastDeletion = taskTombstoneRepository.findLatestDeletion(ownerId);
+        LocalDateTime lastModified = summary.getLastModified();
+        if (lastModified == null || (lastDeletion != null && lastDeletion.isAfter(lastModified))) {
+            lastModified = lastDeletion;
+        }
+        String validator = summary.getCount() + ":" + summary.getVersionSum() + ":"
+                + summary.getLastModified() + ":" + lastDeletion;
+        return new TaskListVersion(hash(validator), lastModified);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TaskChangesDTO getChangesSince(Long ownerId, LocalDateTime since) {
+        if (since == null) {
+            throw new BadRequestException("since is required");
+        }
+        LocalDateTime until = LocalDateTime.now().minus(commitGrace);
+        if (!since.isBefore(until)) {
+            return new TaskChangesDTO(List.of(), List.of(), since, false);
+        }
+        if (since.isBefore(LocalDateTime.now().minus(tombstoneRetention))) {
+            return new TaskChangesDTO(List.of(), List.of(), until, true);
+        }
+
+        var changed = taskRepository.findChangedBetween(ownerId, since, until, Limit.of(MAX_CHANGES + 1));
+        if (changed.size() > MAX_CHANGES) {
+            return new TaskChangesDTO(List.of(), List.of(), until, true);
+        }
+        List<Long> deleted = taskTombstoneRepository.findTaskIdsDeletedBetween(ownerId, since, until);
+        return new TaskChangesDTO(taskMapper.toDtoList(changed), deleted, until, false);
+    }
+
+    // Runs inside the deleting transaction so the tombstone commits or rolls back with the delete.
+    // Archived tasks leave the task listings too, so clients are told to drop them the same way
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.task() == null) {
+            // persist rather than save: the id is assigned, save would select before inserting
+            entityManager.persist(new TaskTombstone(event.taskId(), event.ownerId(), LocalDateTime.now()));
+        }
+    }
+
+    @Scheduled(cron = "${task.sync.tombstone-purge-cron:0 0 3 * * *}")
+    @Transactional
+    public void purgeTombstones() {
+        int purged = taskTombstoneRepository.deleteOlderThan(LocalDateTime.now().minus(tombstoneRetention));
+        log.info("Purged {} task tombstones", purged);
+    }
+
+    private static String hash(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
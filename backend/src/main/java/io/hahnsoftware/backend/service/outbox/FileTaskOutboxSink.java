@@ -0,0 +1,60 @@
+package io.hahnsoftware.backend.service.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+// For local runs: appends one JSON document per message to a file, synced before the batch is deleted
+@Component
+@ConditionalOnProperty(name = "task.outbox.sink", havingValue = "file")
+@RequiredArgsConstructor
+public class FileTaskOutboxSink implements TaskOutboxSink {
+
+    @Value("${task.outbox.file.path:data/task-outbox.jsonl}")
+    private Path path;
+
+    private final ObjectMapper objectMapper;
+
+    private FileChannel channel;
+
+    @PostConstruct
+    public void init() throws IOException {
+        if (path.toAbsolutePath().getParent() != null) {
+            Files.createDirectories(path.toAbsolutePath().getParent());
+        }
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    @Override
+    public synchronized void publish(List<TaskOutboxMessage> messages) {
+        try {
+            StringBuilder lines = new StringBuilder();
+            for (TaskOutboxMessage message : messages) {
+                lines.append(objectMapper.writeValueAsString(message)).append('\n');
+            }
+            channel.write(ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8)));
+            channel.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not append to " + path, e);
+        }
+    }
+}
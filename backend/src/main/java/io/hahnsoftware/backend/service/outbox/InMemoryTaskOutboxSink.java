@@ -0,0 +1,34 @@
+package io.hahnsoftware.backend.service.outbox;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+// For local runs and tests: keeps the most recent messages in memory
+@Component
+@ConditionalOnProperty(name = "task.outbox.sink", havingValue = "memory")
+public class InMemoryTaskOutboxSink implements TaskOutboxSink {
+
+    @Value("${task.outbox.memory.capacity:10000}")
+    private int capacity;
+
+    private final Deque<TaskOutboxMessage> messages = new ArrayDeque<>();
+
+    @Override
+    public synchronized void publish(List<TaskOutboxMessage> published) {
+        for (TaskOutboxMessage message : published) {
+            if (messages.size() == capacity) {
+                messages.removeFirst();
+            }
+            messages.addLast(message);
+        }
+    }
+
+    public synchronized List<TaskOutboxMessage> getMessages() {
+        return List.copyOf(messages);
+    }
+}
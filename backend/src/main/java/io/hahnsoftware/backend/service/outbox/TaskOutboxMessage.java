@@ -0,0 +1,13 @@
+package io.hahnsoftware.backend.service.outbox;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import java.time.LocalDateTime;
+
+/**
+ * One relayed task change. {@code id} increases with every change and is the same on redelivery, so
+ * consumers can drop duplicates; {@code event} is the serialized {@code TaskChangedEvent}.
+ */
+public record TaskOutboxMessage(Long id, String type, Long taskId, Long ownerId, LocalDateTime createdAt,
+                                @JsonRawValue String event) {
+}
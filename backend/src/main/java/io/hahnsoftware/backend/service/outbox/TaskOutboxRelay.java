@@ -0,0 +1,84 @@
+package io.hahnsoftware.backend.service.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Moves outbox rows to the sink in batches of {@code batchSize}, oldest first, and deletes them in the same
+ * transaction. Each batch first locks the single relay lock row, so only one instance relays at a time and
+ * the sink sees the rows in id order. Each run costs the lock, one select and one batched delete per batch,
+ * whatever the table size. Delivery is at least once: a batch whose commit fails is published again.
+ */
+@Component
+@ConditionalOnExpression("'${task.outbox.sink:none}' != 'none'")
+@RequiredArgsConstructor
+public class TaskOutboxRelay {
+
+    // Another instance holding the lock is relaying; this one skips the run instead of waiting
+    private static final String LOCK = "select id from task_outbox_relay_lock where id = 1 for update skip locked";
+    private static final String SELECT_BATCH = """
+            select id, event_type, task_id, owner_id, created_at, payload from task_outbox
+            order by id limit ?""";
+    private static final String DELETE = "delete from task_outbox where id = ?";
+
+    @Value("${task.outbox.batch-size:500}")
+    private int batchSize;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TaskOutboxSink sink;
+
+    private final PlatformTransactionManager transactionManager;
+
+    private final MeterRegistry meterRegistry;
+
+    private TransactionTemplate transaction;
+    private Counter published;
+
+    @PostConstruct
+    public void init() {
+        transaction = new TransactionTemplate(transactionManager);
+        published = Counter.builder("task.outbox.published").register(meterRegistry);
+    }
+
+    // Keeps going while batches come back full, so a backlog drains without waiting for the next run
+    @Scheduled(fixedDelayString = "${task.outbox.relay-interval:1s}")
+    public synchronized void relay() {
+        Integer relayed;
+        do {
+            relayed = transaction.execute(status -> relayBatch());
+        } while (relayed != null && relayed == batchSize);
+    }
+
+    private int relayBatch() {
+        if (jdbcTemplate.queryForList(LOCK, Integer.class).isEmpty()) {
+            return 0;
+        }
+        List<TaskOutboxMessage> messages = jdbcTemplate.query(SELECT_BATCH, (rs, rowNum) -> new TaskOutboxMessage(
+                rs.getLong("id"),
+                rs.getString("event_type"),
+                rs.getLong("task_id"),
+                rs.getLong("owner_id"),
+                rs.getObject("created_at", LocalDateTime.class),
+                rs.getString("payload")), batchSize);
+        if (messages.isEmpty()) {
+            return 0;
+        }
+        sink.publish(messages);
+        jdbcTemplate.batchUpdate(DELETE, messages.stream().map(message -> new Object[]{message.id()}).toList());
+        published.increment(messages.size());
+        return messages.size();
+    }
+}
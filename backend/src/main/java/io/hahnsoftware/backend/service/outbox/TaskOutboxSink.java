@@ -0,0 +1,9 @@
+package io.hahnsoftware.backend.service.outbox;
+
+import java.util.List;
+
+// Receives relayed changes in outbox order, which is commit order for the changes of one task; changes of
+// different tasks may interleave differently. Throwing keeps the batch in the outbox for the next attempt
+public interface TaskOutboxSink {
+    void publish(List<TaskOutboxMessage> messages);
+}
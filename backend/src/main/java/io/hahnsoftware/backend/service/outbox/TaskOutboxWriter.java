@@ -0,0 +1,86 @@
+package io.hahnsoftware.backend.service.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hahnsoftware.backend.event.TaskChangedEvent;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records every task change in the outbox table within the transaction that makes it, so a change is
+ * relayed if and only if it commits. The rows of one transaction go out as a single JDBC batch just
+ * before the commit, however many tasks it changed.
+ * <p>
+ * The persistence context is flushed before the batch. The transaction then already holds the row locks of
+ * the tasks it changed when the outbox ids are drawn. A conflicting change to the same task waits for those
+ * locks, so it draws its ids only after this commit, and per task, id order is commit order.
+ */
+@Component
+@ConditionalOnExpression("'${task.outbox.sink:none}' != 'none'")
+@RequiredArgsConstructor
+public class TaskOutboxWriter {
+
+    static final String INSERT = "insert into task_outbox (event_type, task_id, owner_id, payload, created_at) "
+            + "values (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @EventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        Object[] row = row(event);
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            jdbcTemplate.update(INSERT, row);
+            return;
+        }
+        PendingRows pending = (PendingRows) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingRows();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.rows.add(row);
+    }
+
+    private Object[] row(TaskChangedEvent event) {
+        try {
+            return new Object[]{event.type().name(), event.taskId(), event.ownerId(),
+                    objectMapper.writeValueAsString(event), LocalDateTime.now()};
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize the change of task " + event.taskId(), e);
+        }
+    }
+
+    private class PendingRows implements TransactionSynchronization {
+
+        private final List<Object[]> rows = new ArrayList<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            if (entityManager.isJoinedToTransaction()) {
+                entityManager.flush();
+            }
+            jdbcTemplate.batchUpdate(INSERT, rows);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResource(TaskOutboxWriter.this);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+-- Baseline schema, portable between PostgreSQL and H2 (tests). Keep in sync with the entity mappings:
+-- Hibernate only validates it at startup (spring.jpa.hibernate.ddl-auto=validate).
+CREATE SEQUENCE tasks_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE _user (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    first_name VARCHAR(255) NOT NULL,
+    last_name  VARCHAR(255) NOT NULL,
+    username   VARCHAR(255) NOT NULL,
+    email      VARCHAR(255) NOT NULL,
+    password   VARCHAR(255) NOT NULL,
+    role       VARCHAR(255) CHECK (role IN ('USER', 'ADMIN')),
+    created_at TIMESTAMP(6),
+    CONSTRAINT pk_user PRIMARY KEY (id),
+    CONSTRAINT uk_user_username UNIQUE (username),
+    CONSTRAINT uk_user_email UNIQUE (email)
+);
+
+CREATE TABLE tasks (
+    id           BIGINT       NOT NULL,
+    owner_id     BIGINT       NOT NULL,
+    title        VARCHAR(255) NOT NULL,
+    description  TEXT,
+    status       VARCHAR(255) NOT NULL CHECK (status IN ('TODO', 'IN_PROGRESS', 'REVIEW', 'COMPLETED', 'CANCELLED')),
+    priority     VARCHAR(255) NOT NULL CHECK (priority IN ('LOW', 'MEDIUM', 'HIGH', 'URGENT')),
+    due_date     DATE,
+    created_at   TIMESTAMP(6),
+    updated_at   TIMESTAMP(6),
+    completed_at TIMESTAMP(6),
+    version      BIGINT       NOT NULL,
+    CONSTRAINT pk_tasks PRIMARY KEY (id),
+    CONSTRAINT fk_tasks_owner FOREIGN KEY (owner_id) REFERENCES _user (id)
+);
+
+-- Every task query is scoped to one owner, so each index leads with owner_id; (owner_id, id) also backs the foreign key
+CREATE INDEX idx_tasks_owner_id_id ON tasks (owner_id, id);
+CREATE INDEX idx_tasks_owner_updated_at_id ON tasks (owner_id, updated_at, id);
+CREATE INDEX idx_tasks_owner_due_date_id ON tasks (owner_id, due_date, id);
+CREATE INDEX idx_tasks_owner_status_updated_at_id ON tasks (owner_id, status, updated_at, id);
+CREATE INDEX idx_tasks_owner_status_due_date_id ON tasks (owner_id, status, due_date, id);
+CREATE INDEX idx_tasks_owner_priority_updated_at_id ON tasks (owner_id, priority, updated_at, id);
+
+CREATE TABLE task_tombstones (
+    task_id    BIGINT       NOT NULL,
+    owner_id   BIGINT       NOT NULL,
+    deleted_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_task_tombstones PRIMARY KEY (task_id)
+);
+
+CREATE INDEX idx_task_tombstones_deleted_at ON task_tombstones (deleted_at);
+CREATE INDEX idx_task_tombstones_owner_deleted_at ON task_tombstones (owner_id, deleted_at);
@@ -0,0 +1,10 @@
+-- Task changes waiting to be relayed to downstream consumers; rows are deleted once published
+CREATE TABLE task_outbox (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    event_type VARCHAR(16)  NOT NULL,
+    task_id    BIGINT       NOT NULL,
+    owner_id   BIGINT       NOT NULL,
+    payload    TEXT         NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_task_outbox PRIMARY KEY (id)
+);
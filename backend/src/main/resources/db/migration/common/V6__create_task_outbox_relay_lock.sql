@@ -0,0 +1,7 @@
+-- One row, locked by the outbox relay for each batch so that only one instance relays at a time
+CREATE TABLE task_outbox_relay_lock (
+    id INT NOT NULL,
+    CONSTRAINT pk_task_outbox_relay_lock PRIMARY KEY (id)
+);
+
+INSERT INTO task_outbox_relay_lock (id) VALUES (1);
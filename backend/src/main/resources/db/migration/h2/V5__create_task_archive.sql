@@ -0,0 +1,19 @@
+-- H2 (tests): the archive of postgresql/V5 without partitions or the expression index
+CREATE TABLE task_archive (
+    id           BIGINT       NOT NULL,
+    owner_id     BIGINT       NOT NULL,
+    title        VARCHAR(255) NOT NULL,
+    description  TEXT,
+    status       VARCHAR(255) NOT NULL,
+    priority     VARCHAR(255) NOT NULL,
+    due_date     DATE,
+    created_at   TIMESTAMP(6),
+    updated_at   TIMESTAMP(6),
+    completed_at TIMESTAMP(6),
+    version      BIGINT       NOT NULL,
+    closed_at    TIMESTAMP(6) NOT NULL,
+    archived_at  TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_task_archive PRIMARY KEY (id, closed_at)
+);
+
+CREATE INDEX idx_task_archive_owner_closed_at_id ON task_archive (owner_id, closed_at, id);
@@ -0,0 +1,17 @@
+-- PostgreSQL only: full-text search and partial indexes (H2 supports neither)
+
+ALTER TABLE tasks ADD COLUMN search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('english', coalesce(description, '')), 'B')
+    ) STORED;
+
+CREATE INDEX idx_tasks_search_vector ON tasks USING GIN (search_vector);
+
+-- Open tasks only: overdue counts and due date listings skip the completed and cancelled history
+CREATE INDEX idx_tasks_owner_open_due_date ON tasks (owner_id, due_date, id)
+    WHERE status NOT IN ('COMPLETED', 'CANCELLED');
+
+-- Completed tasks only: completion histogram and lead time
+CREATE INDEX idx_tasks_owner_completed_at ON tasks (owner_id, completed_at)
+    WHERE completed_at IS NOT NULL;
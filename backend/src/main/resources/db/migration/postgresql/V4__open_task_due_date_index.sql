@@ -0,0 +1,3 @@
+-- The due date scheduler loads open tasks of all owners by due date, one day at a time
+CREATE INDEX idx_tasks_open_due_date ON tasks (due_date)
+    WHERE status NOT IN ('COMPLETED', 'CANCELLED');
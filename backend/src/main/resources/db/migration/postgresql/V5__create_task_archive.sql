@@ -0,0 +1,25 @@
+-- Closed tasks moved out of tasks by the archival job, one partition per month of closed_at. Partitions are
+-- created by the job before it moves a month's first rows; dropping one discards a month of history at once.
+-- closed_at is completed_at, or updated_at for tasks that were cancelled without being completed
+CREATE TABLE task_archive (
+    id           BIGINT       NOT NULL,
+    owner_id     BIGINT       NOT NULL,
+    title        VARCHAR(255) NOT NULL,
+    description  TEXT,
+    status       VARCHAR(255) NOT NULL,
+    priority     VARCHAR(255) NOT NULL,
+    due_date     DATE,
+    created_at   TIMESTAMP(6),
+    updated_at   TIMESTAMP(6),
+    completed_at TIMESTAMP(6),
+    version      BIGINT       NOT NULL,
+    closed_at    TIMESTAMP(6) NOT NULL,
+    archived_at  TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_task_archive PRIMARY KEY (id, closed_at)
+) PARTITION BY RANGE (closed_at);
+
+CREATE INDEX idx_task_archive_owner_closed_at_id ON task_archive (owner_id, closed_at, id);
+
+-- Closed tasks only, in the order the job archives them
+CREATE INDEX idx_tasks_closed_at_id ON tasks ((coalesce(completed_at, updated_at)), id)
+    WHERE status IN ('COMPLETED', 'CANCELLED');
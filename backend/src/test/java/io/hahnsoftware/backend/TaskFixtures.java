@@ -0,0 +1,40 @@
+package io.hahnsoftware.backend;
+
+import io.hahnsoftware.backend.dto.TaskDTO;
+import io.hahnsoftware.backend.entity.Task;
+import io.hahnsoftware.backend.entity.User;
+import io.hahnsoftware.backend.repository.UserRepository;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+// Shared test data: every test works on its own freshly saved owner, so tests never see each other's tasks
+public final class TaskFixtures {
+
+    private TaskFixtures() {
+    }
+
+    public static Long newOwner(UserRepository userRepository) {
+        String username = "owner" + UUID.randomUUID().toString().substring(0, 8);
+        User user = new User();
+        user.setFirstName("Task");
+        user.setLastName("Owner");
+        user.setUsername(username);
+        user.setEmail(username + "@example.com");
+        user.setPassword("unused");
+        return userRepository.save(user).getId();
+    }
+
+    public static TaskDTO newTask(String title) {
+        return newTask(title, Task.TaskStatus.TODO, null);
+    }
+
+    public static TaskDTO newTask(String title, Task.TaskStatus status, LocalDate dueDate) {
+        TaskDTO task = new TaskDTO();
+        task.setTitle(title);
+        task.setStatus(status);
+        task.setPriority(Task.TaskPriority.MEDIUM);
+        task.setDueDate(dueDate);
+        return task;
+    }
+}
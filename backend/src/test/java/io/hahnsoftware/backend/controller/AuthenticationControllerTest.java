@@ -0,0 +1,93 @@
+package io.hahnsoftware.backend.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hahnsoftware.backend.dto.AuthRequest;
+import io.hahnsoftware.backend.entity.User;
+import io.hahnsoftware.backend.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Authentication API Integration Tests")
+class AuthenticationControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("LOGIN - Should rehash a password stored with a weaker work factor")
+    void shouldRehashWeakPasswordOnLogin() throws Exception {
+        User user = saveUserWithWeakHash();
+        Long id = user.getId();
+
+        login(user.getEmail(), "password123");
+
+        String rehashed = userRepository.findById(id).orElseThrow().getPassword();
+        assertTrue(rehashed.startsWith("$2a$10$"), rehashed);
+        login(user.getEmail(), "password123");
+        assertEquals(rehashed, userRepository.findById(id).orElseThrow().getPassword());
+    }
+
+    @Test
+    @DisplayName("LOGIN - Should answer 429 once an email runs out of attempts")
+    void shouldRateLimitLoginsPerEmail() throws Exception {
+        String email = saveUserWithWeakHash().getEmail();
+        for (int i = 0; i < 5; i++) {
+            attempt(email).andExpect(status().is4xxClientError())
+                    .andExpect(result -> assertNotEquals(429, result.getResponse().getStatus()));
+        }
+
+        attempt(email).andExpect(status().isTooManyRequests());
+        assertEquals(1, meterRegistry.get("auth.rate.limit.rejected").tag("limit", "email").counter().count());
+    }
+
+    private User saveUserWithWeakHash() {
+        String username = "weak" + UUID.randomUUID().toString().substring(0, 8);
+        User user = new User();
+        user.setFirstName("Weak");
+        user.setLastName("Hash");
+        user.setUsername(username);
+        user.setEmail(username + "@example.com");
+        user.setPassword(new BCryptPasswordEncoder(4).encode("password123"));
+        return userRepository.save(user);
+    }
+
+    private void login(String email, String password) throws Exception {
+        mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new AuthRequest(email, password))))
+                .andExpect(status().isOk());
+    }
+
+    private ResultActions attempt(String email) throws Exception {
+        return mockMvc.perform(post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new AuthRequest(email, "wrong-password"))));
+    }
+}
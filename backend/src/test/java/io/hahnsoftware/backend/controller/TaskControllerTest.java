@@ -0,0 +1,240 @@
+package io.hahnsoftware.backend.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hahnsoftware.backend.dto.TaskDTO;
+import io.hahnsoftware.backend.dto.UserDTO;
+import io.hahnsoftware.backend.entity.Task;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static io.hahnsoftware.backend.TaskFixtures.newTask;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Task API Integration Tests")
+class TaskControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private String token;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        token = register();
+    }
+
+    @Test
+    @DisplayName("AUTH - Should accept requests carrying a token from registration")
+    void shouldAuthenticateWithToken() throws Exception {
+        mockMvc.perform(get("/api/tasks").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("AUTH - Should reject requests with a tampered token")
+    void shouldRejectTamperedToken() throws Exception {
+        mockMvc.perform(get("/api/tasks").header("Authorization", "Bearer " + token + "x"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("OWNER - Should not expose tasks to other users")
+    void shouldIsolateTasksBetweenUsers() throws Exception {
+        TaskDTO task = createTask("Mine");
+        String otherToken = register();
+
+        mockMvc.perform(get("/api/tasks/" + task.getId()).header("Authorization", "Bearer " + otherToken))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(delete("/api/tasks/" + task.getId()).header("Authorization", "Bearer " + otherToken))
+                .andExpect(status().isNotFound());
+        String body = mockMvc.perform(get("/api/tasks").header("Authorization", "Bearer " + otherToken))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        assertEquals("[]", body);
+
+        mockMvc.perform(get("/api/tasks/" + task.getId()).header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("POST - Should ignore an id sent by the client and create a new task")
+    void shouldIgnoreClientIdOnCreate() throws Exception {
+        TaskDTO existing = createTask("Existing");
+        TaskDTO task = newTask("Posted with an id");
+        task.setId(existing.getId());
+
+        String body = mockMvc.perform(post("/api/tasks")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(task)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        TaskDTO created = objectMapper.readValue(body, TaskDTO.class);
+
+        assertNotEquals(existing.getId(), created.getId());
+        assertEquals("Posted with an id", created.getTitle());
+        String original = mockMvc.perform(get("/api/tasks/" + existing.getId()).header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        assertEquals("Existing", objectMapper.readValue(original, TaskDTO.class).getTitle());
+    }
+
+    @Test
+    @DisplayName("GET - Should answer 304 while the task ETag matches")
+    void shouldRevalidateTaskWithETag() throws Exception {
+        TaskDTO task = createTask("Cached");
+        String eTag = mockMvc.perform(get("/api/tasks/" + task.getId()).header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(eTag);
+
+        mockMvc.perform(get("/api/tasks/" + task.getId())
+                        .header("Authorization", "Bearer " + token)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        task.setTitle("Changed");
+        mockMvc.perform(put("/api/tasks/" + task.getId())
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(task)))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/tasks/" + task.getId())
+                        .header("Authorization", "Bearer " + token)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(put("/api/tasks/" + task.getId())
+                        .header("Authorization", "Bearer " + token)
+                        .header(HttpHeaders.IF_MATCH, eTag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(task)))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    @DisplayName("GET - Should change the list ETag when a task is deleted")
+    void shouldChangeListETagOnDelete() throws Exception {
+        TaskDTO task = createTask("Doomed");
+        String eTag = mockMvc.perform(get("/api/tasks").header("Authorization", "Bearer " + token))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get("/api/tasks")
+                        .header("Authorization", "Bearer " + token)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(delete("/api/tasks/" + task.getId()).header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/tasks")
+                        .header("Authorization", "Bearer " + token)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("GET - Should return changed tasks and deleted ids since a point in time")
+    void shouldReturnChangesSince() throws Exception {
+        LocalDateTime since = LocalDateTime.now().minusSeconds(1);
+        TaskDTO kept = createTask("Kept");
+        TaskDTO removed = createTask("Removed");
+        mockMvc.perform(delete("/api/tasks/" + removed.getId()).header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        String body = mockMvc.perform(get("/api/tasks/changes")
+                        .param("since", since.toString())
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        JsonNode changes = objectMapper.readTree(body);
+
+        assertFalse(changes.get("resetRequired").asBoolean());
+        assertTrue(changes.get("changed").findValuesAsText("id").contains(kept.getId().toString()));
+        assertFalse(changes.get("changed").findValuesAsText("id").contains(removed.getId().toString()));
+        assertTrue(changes.get("deleted").toString().contains(removed.getId().toString()));
+    }
+
+    @Test
+    @DisplayName("STREAM - Should push committed changes to subscribers")
+    void shouldStreamTaskChanges() throws Exception {
+        MockHttpServletResponse stream = mockMvc.perform(get("/api/tasks/stream")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(request().asyncStarted())
+                .andReturn().getResponse();
+
+        TaskDTO task = createTask("Streamed");
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!stream.getContentAsString().contains("\"taskId\":" + task.getId())
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+
+        String content = stream.getContentAsString();
+        assertTrue(content.contains("event:tasks"));
+        assertTrue(content.contains("\"type\":\"CREATED\",\"taskId\":" + task.getId()));
+    }
+
+    @Test
+    @DisplayName("METRICS - Should time token verification and count statements per request")
+    void shouldRecordRequestMetrics() throws Exception {
+        TaskDTO task = createTask("Measured");
+        mockMvc.perform(get("/api/tasks/" + task.getId()).header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        assertTrue(meterRegistry.get("auth.jwt.verify").tag("result", "valid").timer().count() > 0);
+        assertTrue(meterRegistry.get("auth.password.hash").tag("operation", "encode").timer().count() > 0);
+        assertTrue(meterRegistry.get("http.server.requests.sql.statements")
+                .tag("uri", "/api/tasks/{id}").summary().count() > 0);
+    }
+
+    private String register() throws Exception {
+        String username = "user" + UUID.randomUUID().toString().substring(0, 8);
+        UserDTO user = new UserDTO("Test", "User", username, username + "@example.com", "password123");
+        String body = mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(user)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        JsonNode response = objectMapper.readTree(body);
+        return response.get("token").asText();
+    }
+
+    private TaskDTO createTask(String title) throws Exception {
+        TaskDTO task = newTask(title);
+        String body = mockMvc.perform(post("/api/tasks")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(task)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readValue(body, TaskDTO.class);
+    }
+}
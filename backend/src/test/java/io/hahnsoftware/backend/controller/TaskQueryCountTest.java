@@ -0,0 +1,121 @@
+package io.hahnsoftware.backend.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hahnsoftware.backend.dto.TaskDTO;
+import io.hahnsoftware.backend.dto.UserDTO;
+import io.hahnsoftware.backend.entity.Task;
+import io.hahnsoftware.backend.metrics.RequestSqlStats;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static io.hahnsoftware.backend.TaskFixtures.newTask;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Task API SQL Statement Count Tests")
+class TaskQueryCountTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private String token;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        String username = "user" + UUID.randomUUID().toString().substring(0, 8);
+        UserDTO user = new UserDTO("Test", "User", username, username + "@example.com", "password123");
+        String body = mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(user)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        token = objectMapper.readTree(body).get("token").asText();
+    }
+
+    @Test
+    @DisplayName("GET /{id} - Should issue exactly one query, none once the entity is cached")
+    void shouldGetTaskWithOneQuery() throws Exception {
+        TaskDTO task = createTask("Counted");
+        entityManagerFactory.getCache().evict(Task.class);
+
+        assertEquals(1, statementsFor(get("/api/tasks/" + task.getId())));
+        assertEquals(0, statementsFor(get("/api/tasks/" + task.getId())));
+    }
+
+    @Test
+    @DisplayName("GET /status/{status} - Should issue one query, none while the list is cached")
+    void shouldListByStatusWithOneQuery() throws Exception {
+        createTask("Listed");
+
+        assertEquals(1, statementsFor(get("/api/tasks/status/TODO")));
+        assertEquals(0, statementsFor(get("/api/tasks/status/TODO")));
+    }
+
+    @Test
+    @DisplayName("PATCH/DELETE - Should complete and delete with a fixed number of statements")
+    void shouldMutateWithFixedStatements() throws Exception {
+        TaskDTO task = createTask("Mutated");
+
+        // UPDATE, the read-back for the response, then the outbox INSERT
+        assertEquals(3, statementsFor(patch("/api/tasks/" + task.getId() + "/complete")));
+        // DELETE, the tombstone INSERT, then the outbox INSERT
+        assertEquals(3, statementsFor(delete("/api/tasks/" + task.getId())));
+    }
+
+    @Test
+    @DisplayName("POST /batch - Should not issue a statement per task")
+    void shouldCreateBatchWithoutPerRowStatements() throws Exception {
+        List<TaskDTO> tasks = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            tasks.add(newTask("Batched " + i));
+        }
+
+        int statements = statementsFor(post("/api/tasks/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(tasks)));
+
+        assertTrue(statements <= 7, "100 inserts took " + statements + " statements");
+    }
+
+    // MockMvc runs the request on the test thread, so its statistics are still current afterwards
+    private int statementsFor(MockHttpServletRequestBuilder request) throws Exception {
+        mockMvc.perform(request.header("Authorization", "Bearer " + token))
+                .andExpect(status().is2xxSuccessful());
+        return RequestSqlStats.current().getStatements();
+    }
+
+    private TaskDTO createTask(String title) throws Exception {
+        String body = mockMvc.perform(post("/api/tasks")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(newTask(title))))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        JsonNode created = objectMapper.readTree(body);
+        return objectMapper.treeToValue(created, TaskDTO.class);
+    }
+}
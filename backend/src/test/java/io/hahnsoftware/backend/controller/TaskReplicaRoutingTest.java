@@ -0,0 +1,105 @@
+package io.hahnsoftware.backend.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hahnsoftware.backend.dto.TaskDTO;
+import io.hahnsoftware.backend.dto.UserDTO;
+import io.hahnsoftware.backend.entity.Task;
+import io.hahnsoftware.backend.repository.UserRepository;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Two separate H2 databases stand in for the primary and one replica; nothing replicates between them,
+// so the rows a request returns show which database served it
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1;MODE=PostgreSQL",
+        "db.replica.urls=" + TaskReplicaRoutingTest.REPLICA_URL,
+        "db.replica.sticky-window=1h"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Read Replica Routing Tests")
+class TaskReplicaRoutingTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1;MODE=PostgreSQL";
+
+    private static final JdbcTemplate replica =
+            new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+    static {
+        Flyway.configure()
+                .dataSource(REPLICA_URL, "sa", "")
+                .locations("classpath:db/migration/common", "classpath:db/migration/h2")
+                .load()
+                .migrate();
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    @DisplayName("Reads go to the replica until the user writes, then stay on the primary")
+    void shouldReadFromReplicaUntilOwnWrite() throws Exception {
+        String username = "user" + UUID.randomUUID().toString().substring(0, 8);
+        String token = register(username);
+        Long userId = userRepository.findByEmail(username + "@example.com").orElseThrow().getId();
+        replica.update("insert into _user (id, first_name, last_name, username, email, password, role) "
+                + "values (?, 'Test', 'User', ?, ?, 'x', 'USER')", userId, username, username + "@example.com");
+        replica.update("insert into tasks (id, owner_id, title, status, priority, version) "
+                + "values (900001, ?, 'Replicated', 'TODO', 'MEDIUM', 0)", userId);
+
+        mockMvc.perform(get("/api/tasks").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].title").value("Replicated"));
+
+        TaskDTO task = new TaskDTO();
+        task.setTitle("Written");
+        task.setStatus(Task.TaskStatus.TODO);
+        task.setPriority(Task.TaskPriority.MEDIUM);
+        mockMvc.perform(post("/api/tasks")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(task)))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/api/tasks/status/TODO").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].title").value("Written"));
+        assertEquals(0, replica.queryForObject("select count(*) from tasks where title = 'Written'", Integer.class));
+    }
+
+    private String register(String username) throws Exception {
+        UserDTO user = new UserDTO("Test", "User", username, username + "@example.com", "password123");
+        String body = mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(user)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("token").asText();
+    }
+}
@@ -0,0 +1,57 @@
+package io.hahnsoftware.backend.mapper;
+
+import io.hahnsoftware.backend.dto.TaskDTO;
+import io.hahnsoftware.backend.entity.Task;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Task Mapper Tests")
+class TaskMapperTest {
+
+    private final TaskMapper taskMapper = new TaskMapper(new SimpleMeterRegistry());
+
+    @Test
+    @DisplayName("Should copy every field from entity to DTO and back")
+    void shouldRoundTripAllFields() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 6, 22, 10, 30);
+        Task task = new Task(7L, "Title", "Description", Task.TaskStatus.COMPLETED, Task.TaskPriority.URGENT,
+                LocalDate.of(2025, 7, 1), createdAt, createdAt.plusHours(1), createdAt.plusHours(2), 3L, null);
+
+        TaskDTO dto = taskMapper.toDto(task);
+        Task mapped = taskMapper.toEntity(dto);
+
+        assertEquals(7L, dto.getId());
+        assertEquals("Title", dto.getTitle());
+        assertEquals("Description", dto.getDescription());
+        assertEquals(Task.TaskStatus.COMPLETED, dto.getStatus());
+        assertEquals(Task.TaskPriority.URGENT, dto.getPriority());
+        assertEquals(LocalDate.of(2025, 7, 1), dto.getDueDate());
+        assertEquals(createdAt, dto.getCreatedAt());
+        assertEquals(createdAt.plusHours(1), dto.getUpdatedAt());
+        assertEquals(createdAt.plusHours(2), dto.getCompletedAt());
+        assertEquals(3L, dto.getVersion());
+        assertNull(mapped.getVersion());
+        assertEquals(task.getTitle(), mapped.getTitle());
+        assertEquals(task.getCompletedAt(), mapped.getCompletedAt());
+    }
+
+    @Test
+    @DisplayName("Should map lists preserving order")
+    void shouldMapListsInOrder() {
+        Task first = new Task();
+        first.setId(1L);
+        Task second = new Task();
+        second.setId(2L);
+
+        List<TaskDTO> dtos = taskMapper.toDtoList(List.of(first, second));
+
+        assertEquals(List.of(1L, 2L), dtos.stream().map(TaskDTO::getId).toList());
+    }
+}
@@ -0,0 +1,64 @@
+package io.hahnsoftware.backend.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Request Metrics Filter Tests")
+class RequestMetricsFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private RequestMetricsFilter filter;
+
+    private MockHttpServletRequest request;
+
+    @BeforeEach
+    void setUp() {
+        filter = new RequestMetricsFilter(meterRegistry);
+        ReflectionTestUtils.setField(filter, "budgetMode", RequestMetricsFilter.BudgetMode.FAIL);
+        ReflectionTestUtils.setField(filter, "defaultBudget", 1);
+        request = new MockHttpServletRequest("GET", "/api/tasks");
+    }
+
+    @Test
+    @DisplayName("Should fail a request that completes over its budget")
+    void shouldFailOverBudget() {
+        IllegalStateException error = assertThrows(IllegalStateException.class,
+                () -> filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> handle(2)));
+
+        assertTrue(error.getMessage().contains("issued 2 SQL statements, budget is 1"));
+        assertEquals(2, meterRegistry.get("http.server.requests.sql.statements").summary().totalAmount());
+    }
+
+    @Test
+    @DisplayName("Should keep the handler's exception when a failing request is also over budget")
+    void shouldKeepHandlerException() {
+        ServletException failure = new ServletException("handler failed");
+
+        ServletException thrown = assertThrows(ServletException.class,
+                () -> filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+                    handle(2);
+                    throw failure;
+                }));
+
+        assertSame(failure, thrown);
+        assertEquals(1, meterRegistry.get("http.server.requests.sql.statements").summary().count());
+    }
+
+    // Stands in for a handler that issues the given number of statements
+    private void handle(int statements) {
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/tasks");
+        for (int i = 0; i < statements; i++) {
+            RequestSqlStats.current().record(1_000);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package io.hahnsoftware.backend.service.auth;
+
+import io.hahnsoftware.backend.entity.Role;
+import io.hahnsoftware.backend.entity.User;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("JWT Service Tests")
+class JwtServiceTest {
+
+    private static final String SECRET =
+            "00fd277d16ee28fd0b942cacfa33f7caad58c1fcb32148766c9f7290727b8f7886ba5791e4cc07056365da450e40ac52";
+
+    private JwtService jwtService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = newJwtService(86400L);
+        user = new User();
+        user.setId(42L);
+        user.setUsername("john");
+        user.setRole(Role.ADMIN);
+    }
+
+    @Test
+    @DisplayName("Should verify a token once and serve its claims from the cache")
+    void shouldCacheVerifiedClaims() {
+        String token = jwtService.generateToken(user);
+
+        assertEquals("john", jwtService.verifyToken(token).getSubject());
+        assertSame(jwtService.verifyToken(token), jwtService.verifyToken(token));
+    }
+
+    @Test
+    @DisplayName("Should rebuild the principal from token claims")
+    void shouldBuildPrincipalFromClaims() {
+        String token = jwtService.generateToken(user);
+
+        AuthenticatedUser principal = jwtService.toAuthenticatedUser(jwtService.verifyToken(token));
+
+        assertEquals(new AuthenticatedUser(42L, "john", Role.ADMIN), principal);
+        assertEquals("ADMIN", principal.getAuthorities().get(0).getAuthority());
+    }
+
+    @Test
+    @DisplayName("Should reject a tampered token")
+    void shouldRejectTamperedToken() {
+        String token = jwtService.generateToken(user);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        assertThrows(JwtException.class, () -> jwtService.verifyToken(tampered));
+    }
+
+    @Test
+    @DisplayName("Should reject an expired token")
+    void shouldRejectExpiredToken() {
+        String token = newJwtService(-1L).generateToken(user);
+
+        assertThrows(ExpiredJwtException.class, () -> jwtService.verifyToken(token));
+    }
+
+    private JwtService newJwtService(long expiration) {
+        JwtService service = new JwtService(username -> {
+            throw new UsernameNotFoundException(username);
+        });
+        ReflectionTestUtils.setField(service, "secretKey", SECRET);
+        ReflectionTestUtils.setField(service, "expiration", expiration);
+        service.init();
+        return service;
+    }
+}
@@ -0,0 +1,63 @@
+package io.hahnsoftware.backend.service.auth;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Token Bucket Tests")
+class TokenBucketsTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final TokenBuckets buckets = new TokenBuckets(3, Duration.ofSeconds(1), 100, now::get);
+
+    @Test
+    @DisplayName("Should allow a burst up to capacity, then one attempt per refill period")
+    void shouldRefillOneTokenPerPeriod() {
+        assertTrue(buckets.tryAcquire("a"));
+        assertTrue(buckets.tryAcquire("a"));
+        assertTrue(buckets.tryAcquire("a"));
+        assertFalse(buckets.tryAcquire("a"));
+        assertTrue(buckets.tryAcquire("b"));
+
+        now.addAndGet(Duration.ofMillis(999).toNanos());
+        assertFalse(buckets.tryAcquire("a"));
+        now.addAndGet(Duration.ofMillis(1).toNanos());
+        assertTrue(buckets.tryAcquire("a"));
+        assertFalse(buckets.tryAcquire("a"));
+
+        // A long pause refills the bucket, but only up to capacity
+        now.addAndGet(Duration.ofMinutes(1).toNanos());
+        for (int i = 0; i < 3; i++) {
+            assertTrue(buckets.tryAcquire("a"));
+        }
+        assertFalse(buckets.tryAcquire("a"));
+    }
+
+    @Test
+    @DisplayName("Should hand out exactly capacity tokens under contention")
+    void shouldNotOverGrantConcurrently() throws Exception {
+        TokenBuckets contended = new TokenBuckets(50, Duration.ofHours(1), 100);
+        AtomicLong granted = new AtomicLong();
+        Thread[] threads = new Thread[8];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 100; i++) {
+                    if (contended.tryAcquire("shared")) {
+                        granted.incrementAndGet();
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(50, granted.get());
+        assertEquals(1, contended.size());
+    }
+}
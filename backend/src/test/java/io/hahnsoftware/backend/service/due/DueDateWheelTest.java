@@ -0,0 +1,62 @@
+package io.hahnsoftware.backend.service.due;
+
+import io.hahnsoftware.backend.event.TaskDueEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Due Date Wheel Tests")
+class DueDateWheelTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 3, 10);
+
+    @Test
+    @DisplayName("Should remind on the reminder day and report overdue the day after the due date")
+    void shouldFireReminderThenOverdue() {
+        DueDateWheel wheel = new DueDateWheel(TODAY, 7, 1);
+        assertTrue(wheel.schedule(1L, 10L, TODAY.plusDays(3)));
+
+        assertTrue(wheel.advanceTo(TODAY.plusDays(1)).isEmpty());
+        assertEquals(List.of(new TaskDueEvent(TaskDueEvent.Type.DUE_SOON, 1L, 10L, TODAY.plusDays(3))),
+                wheel.advanceTo(TODAY.plusDays(2)));
+        assertTrue(wheel.advanceTo(TODAY.plusDays(3)).isEmpty());
+        assertEquals(List.of(new TaskDueEvent(TaskDueEvent.Type.OVERDUE, 1L, 10L, TODAY.plusDays(3))),
+                wheel.advanceTo(TODAY.plusDays(4)));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("Should fire nothing for cancelled tasks and only the latest schedule for moved ones")
+    void shouldCancelAndReschedule() {
+        DueDateWheel wheel = new DueDateWheel(TODAY, 7, 0);
+        wheel.schedule(1L, 10L, TODAY.plusDays(1));
+        wheel.schedule(2L, 10L, TODAY.plusDays(1));
+        wheel.cancel(1L);
+        wheel.schedule(2L, 10L, TODAY.plusDays(5));
+
+        List<TaskDueEvent> fired = wheel.advanceTo(TODAY.plusDays(6));
+
+        assertEquals(List.of(
+                new TaskDueEvent(TaskDueEvent.Type.DUE_SOON, 2L, 10L, TODAY.plusDays(5)),
+                new TaskDueEvent(TaskDueEvent.Type.OVERDUE, 2L, 10L, TODAY.plusDays(5))), fired);
+    }
+
+    @Test
+    @DisplayName("Should hold only due dates inside the horizon, which moves with the wheel")
+    void shouldKeepToHorizon() {
+        DueDateWheel wheel = new DueDateWheel(TODAY, 7, 1);
+
+        assertFalse(wheel.schedule(1L, 10L, TODAY.minusDays(1)));
+        assertFalse(wheel.schedule(2L, 10L, TODAY.plusDays(8)));
+        assertTrue(wheel.schedule(3L, 10L, TODAY.plusDays(7)));
+
+        wheel.advanceTo(TODAY.plusDays(1));
+        assertEquals(TODAY.plusDays(8), wheel.getHorizonEnd());
+        assertTrue(wheel.schedule(2L, 10L, TODAY.plusDays(8)));
+        assertEquals(2, wheel.size());
+    }
+}
@@ -0,0 +1,82 @@
+package io.hahnsoftware.backend.service.due;
+
+import io.hahnsoftware.backend.entity.Task;
+import io.hahnsoftware.backend.event.TaskDueEvent;
+import io.hahnsoftware.backend.repository.UserRepository;
+import io.hahnsoftware.backend.service.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static io.hahnsoftware.backend.TaskFixtures.newOwner;
+import static io.hahnsoftware.backend.TaskFixtures.newTask;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@RecordApplicationEvents
+@DisplayName("Task Due Scheduler Tests")
+class TaskDueSchedulerTest {
+
+    @Autowired
+    private TaskDueScheduler scheduler;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    private Long ownerId;
+
+    @BeforeEach
+    void setUp() {
+        ownerId = newOwner(userRepository);
+    }
+
+    @Test
+    @DisplayName("Should publish OVERDUE at startup for open tasks that fell due within the catch-up window")
+    void shouldCatchUpOverdueTasksOnStart() {
+        LocalDate today = LocalDate.now();
+        Long missed = addTask("Missed", Task.TaskStatus.TODO, today.minusDays(2));
+        addTask("Done", Task.TaskStatus.COMPLETED, today.minusDays(2));
+        addTask("Long overdue", Task.TaskStatus.IN_PROGRESS, today.minusDays(30));
+        addTask("Due today", Task.TaskStatus.TODO, today);
+
+        scheduler.start();
+
+        List<TaskDueEvent> fired = events.stream(TaskDueEvent.class)
+                .filter(event -> event.ownerId().equals(ownerId))
+                .toList();
+        assertEquals(List.of(new TaskDueEvent(TaskDueEvent.Type.OVERDUE, missed, ownerId, today.minusDays(2))), fired);
+    }
+
+    @Test
+    @DisplayName("Should schedule open tasks due within the horizon")
+    void shouldLoadTasksDueWithinHorizon() {
+        int before = scheduler.size();
+        LocalDate today = LocalDate.now();
+        addTask("This week", Task.TaskStatus.TODO, today.plusDays(3));
+        addTask("Next month", Task.TaskStatus.TODO, today.plusDays(30));
+        addTask("Overdue", Task.TaskStatus.TODO, today.minusDays(1));
+
+        scheduler.start();
+
+        assertEquals(before + 1, scheduler.size());
+    }
+
+    private Long addTask(String title, Task.TaskStatus status, LocalDate dueDate) {
+        return taskService.addTask(ownerId, newTask(title, status, dueDate)).getId();
+    }
+}
@@ -0,0 +1,68 @@
+package io.hahnsoftware.backend.service.impl;
+
+import io.hahnsoftware.backend.dto.TaskDTO;
+import io.hahnsoftware.backend.exception.BadRequestException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("In-Memory Task Search Index Tests")
+class InMemoryTaskSearchServiceTest {
+
+    private static final Long OWNER = 1L;
+
+    private final InMemoryTaskSearchService index = new InMemoryTaskSearchService(null, null);
+
+    @Test
+    @DisplayName("Should require every term and rank title matches first")
+    void shouldRankTitleMatchesFirst() {
+        index.index(OWNER, task(1L, "Write release notes", "Summarise the API changes"));
+        index.index(OWNER, task(2L, "API gateway write-up", "Routing rules"));
+        index.index(OWNER, task(3L, "Plan sprint", "Nothing relevant"));
+
+        assertEquals(List.of(2L, 1L), index.searchIds(OWNER, "api write"));
+        assertEquals(List.of(1L), index.searchIds(OWNER, "Release"));
+        assertEquals(List.of(), index.searchIds(OWNER, "api sprint"));
+    }
+
+    @Test
+    @DisplayName("Should drop stale terms when a task is reindexed or removed")
+    void shouldReplaceAndRemovePostings() {
+        index.index(OWNER, task(1L, "Old title", null));
+        index.index(OWNER, task(1L, "New title", null));
+
+        assertEquals(List.of(), index.searchIds(OWNER, "old"));
+        assertEquals(List.of(1L), index.searchIds(OWNER, "new"));
+
+        index.remove(1L);
+        assertEquals(List.of(), index.searchIds(OWNER, "title"));
+    }
+
+    @Test
+    @DisplayName("Should only return tasks of the searching owner")
+    void shouldScopeResultsToOwner() {
+        index.index(OWNER, task(1L, "Shared word", null));
+        index.index(2L, task(2L, "Shared word", null));
+
+        assertEquals(List.of(1L), index.searchIds(OWNER, "shared"));
+        assertEquals(List.of(2L), index.searchIds(2L, "shared"));
+        assertEquals(List.of(), index.searchIds(3L, "shared"));
+    }
+
+    @Test
+    @DisplayName("Should reject a page whose offset does not fit an int")
+    void shouldRejectPageOutOfRange() {
+        assertThrows(BadRequestException.class, () -> index.search(OWNER, "task", 30_000_000, 100));
+    }
+
+    private TaskDTO task(Long id, String title, String description) {
+        TaskDTO task = new TaskDTO();
+        task.setId(id);
+        task.setTitle(title);
+        task.setDescription(description);
+        return task;
+    }
+}
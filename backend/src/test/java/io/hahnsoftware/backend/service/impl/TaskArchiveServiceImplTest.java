@@ -0,0 +1,137 @@
+package io.hahnsoftware.backend.service.impl;
+
+import io.hahnsoftware.backend.dto.TaskDTO;
+import io.hahnsoftware.backend.dto.TaskPageDTO;
+import io.hahnsoftware.backend.dto.TaskStatsDTO;
+import io.hahnsoftware.backend.entity.Task;
+import io.hahnsoftware.backend.exception.ResourceNotFoundException;
+import io.hahnsoftware.backend.repository.UserRepository;
+import io.hahnsoftware.backend.service.TaskArchiveService;
+import io.hahnsoftware.backend.service.TaskService;
+import io.hahnsoftware.backend.service.TaskStatsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static io.hahnsoftware.backend.TaskFixtures.newOwner;
+import static io.hahnsoftware.backend.TaskFixtures.newTask;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Task Archive Tests")
+class TaskArchiveServiceImplTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskArchiveService taskArchiveService;
+
+    @Autowired
+    private TaskStatsService taskStatsService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Long ownerId;
+
+    @BeforeEach
+    void setUp() {
+        ownerId = newOwner(userRepository);
+    }
+
+    @Test
+    @DisplayName("Should move only tasks closed before the threshold and drop them from every listing")
+    void shouldArchiveOldClosedTasks() {
+        TaskDTO oldCompleted = taskService.markTaskAsCompleted(ownerId, addTask("Old completed").getId(), null);
+        TaskDTO oldCancelled = addTask("Old cancelled");
+        oldCancelled.setStatus(Task.TaskStatus.CANCELLED);
+        taskService.updateTask(ownerId, oldCancelled, oldCancelled.getId(), null);
+        TaskDTO recentCompleted = taskService.markTaskAsCompleted(ownerId, addTask("Recent").getId(), null);
+        TaskDTO oldOpen = addTask("Old open");
+        backdate(oldCompleted.getId(), 120);
+        backdate(oldCancelled.getId(), 100);
+        backdate(oldOpen.getId(), 200);
+        // Loaded once so the archived task sits in the second-level and list caches
+        taskService.getTask(ownerId, oldCompleted.getId());
+        assertEquals(2, taskService.getTasksByStatus(ownerId, "COMPLETED").size());
+
+        assertTrue(taskArchiveService.archiveClosedTasks() >= 2);
+
+        assertThrows(ResourceNotFoundException.class, () -> taskService.getTask(ownerId, oldCompleted.getId()));
+        assertEquals(List.of(recentCompleted.getId()),
+                taskService.getTasksByStatus(ownerId, "COMPLETED").stream().map(TaskDTO::getId).toList());
+        assertEquals(2, taskService.getAllTasks(ownerId).size());
+        assertEquals(2, jdbcTemplate.queryForObject(
+                "select count(*) from task_tombstones where owner_id = ?", Integer.class, ownerId));
+
+        TaskPageDTO archived = taskArchiveService.getArchivedTasks(ownerId, null, 20);
+        assertEquals(List.of(oldCancelled.getId(), oldCompleted.getId()),
+                archived.getItems().stream().map(TaskDTO::getId).toList());
+        assertEquals(Task.TaskStatus.COMPLETED, archived.getItems().get(1).getStatus());
+        assertFalse(archived.isHasMore());
+    }
+
+    @Test
+    @DisplayName("Should page through archived tasks with a cursor")
+    void shouldPageArchivedTasks() {
+        for (int i = 0; i < 3; i++) {
+            TaskDTO task = taskService.markTaskAsCompleted(ownerId, addTask("Archived " + i).getId(), null);
+            backdate(task.getId(), 100 + i);
+        }
+        taskArchiveService.archiveClosedTasks();
+
+        TaskPageDTO first = taskArchiveService.getArchivedTasks(ownerId, null, 2);
+        assertEquals(List.of("Archived 0", "Archived 1"), first.getItems().stream().map(TaskDTO::getTitle).toList());
+        assertTrue(first.isHasMore());
+
+        TaskPageDTO second = taskArchiveService.getArchivedTasks(ownerId, first.getNextCursor(), 2);
+        assertEquals(List.of("Archived 2"), second.getItems().stream().map(TaskDTO::getTitle).toList());
+        assertFalse(second.isHasMore());
+        assertNull(second.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("Should keep archived tasks in the statistics")
+    void shouldCountArchivedTasksInStats() {
+        TaskDTO archived = taskService.markTaskAsCompleted(ownerId, addTask("Archived").getId(), null);
+        taskService.markTaskAsCompleted(ownerId, addTask("Recent").getId(), null);
+        backdate(archived.getId(), 120);
+        jdbcTemplate.update("update tasks set created_at = ? where id = ?",
+                LocalDateTime.now().minusDays(121), archived.getId());
+        TaskStatsDTO before = taskStatsService.getStats(ownerId, 365);
+
+        taskArchiveService.archiveClosedTasks();
+
+        TaskStatsDTO after = taskStatsService.getStats(ownerId, 365);
+        assertEquals(2, after.getTotal());
+        assertEquals(2L, after.getCountsByStatusAndPriority().get(Task.TaskStatus.COMPLETED).get(Task.TaskPriority.MEDIUM));
+        assertEquals(1L, after.getCompletedPerDay().get(LocalDate.now().minusDays(120)));
+        assertEquals(before.getCompletedPerDay(), after.getCompletedPerDay());
+        assertEquals(before.getAverageLeadTimeHours(), after.getAverageLeadTimeHours(), 0.01);
+        // One day for the archived task, about nothing for the recent one
+        assertEquals(12.0, after.getAverageLeadTimeHours(), 0.1);
+    }
+
+    private void backdate(Long taskId, int days) {
+        LocalDateTime closedAt = LocalDateTime.now().minusDays(days);
+        jdbcTemplate.update("update tasks set updated_at = ?, completed_at = case when completed_at is null "
+                + "then null else ? end where id = ?", closedAt, closedAt, taskId);
+    }
+
+    private TaskDTO addTask(String title) {
+        return taskService.addTask(ownerId, newTask(title));
+    }
+}
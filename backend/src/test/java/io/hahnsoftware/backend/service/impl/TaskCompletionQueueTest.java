@@ -0,0 +1,201 @@
+package io.hahnsoftware.backend.service.impl;
+
+import io.hahnsoftware.backend.dto.TaskDTO;
+import io.hahnsoftware.backend.entity.Task;
+import io.hahnsoftware.backend.exception.ServiceUnavailableException;
+import io.hahnsoftware.backend.repository.UserRepository;
+import io.hahnsoftware.backend.service.TaskService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static io.hahnsoftware.backend.TaskFixtures.newOwner;
+import static io.hahnsoftware.backend.TaskFixtures.newTask;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Task Completion Write-Behind Tests")
+class TaskCompletionQueueTest {
+
+    private static final Path JOURNAL = Path.of(System.getProperty("java.io.tmpdir"),
+            "task-completions-" + UUID.randomUUID() + ".journal");
+
+    // The writer never runs on its own here; each test flushes explicitly
+    @DynamicPropertySource
+    static void writeBehind(DynamicPropertyRegistry registry) {
+        registry.add("task.completion.write-behind.enabled", () -> "true");
+        registry.add("task.completion.write-behind.journal", JOURNAL::toString);
+        registry.add("task.completion.write-behind.capacity", () -> "3");
+        registry.add("task.completion.write-behind.flush-interval", () -> "1h");
+        registry.add("task.completion.write-behind.max-wait", () -> "0s");
+    }
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskCompletionQueue completionQueue;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Long ownerId;
+
+    @BeforeEach
+    void setUp() {
+        ownerId = newOwner(userRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        completionQueue.flush();
+    }
+
+    @Test
+    @DisplayName("Should acknowledge from the journal and write the completion on flush")
+    void shouldWriteCompletionOnFlush() throws IOException {
+        TaskDTO task = taskService.addTask(ownerId, newTask("Write behind"));
+        int journaled = Files.readAllLines(JOURNAL).size();
+
+        TaskDTO accepted = taskService.markTaskAsCompleted(ownerId, task.getId(), null);
+
+        assertEquals(Task.TaskStatus.COMPLETED, accepted.getStatus());
+        assertNull(accepted.getVersion());
+        assertEquals(Task.TaskStatus.TODO, taskService.getTask(ownerId, task.getId()).getStatus());
+        assertEquals(journaled + 1, Files.readAllLines(JOURNAL).size());
+
+        completionQueue.flush();
+
+        TaskDTO written = taskService.getTask(ownerId, task.getId());
+        assertEquals(Task.TaskStatus.COMPLETED, written.getStatus());
+        assertEquals(accepted.getCompletedAt(), written.getCompletedAt());
+        assertEquals(task.getVersion() + 1, written.getVersion());
+        assertEquals(0, completionQueue.size());
+    }
+
+    @Test
+    @DisplayName("Should compact the journal once it holds twice the capacity")
+    void shouldCompactJournal() throws IOException {
+        for (int round = 0; round < 2; round++) {
+            for (int i = 0; i < 3; i++) {
+                Long id = taskService.addTask(ownerId, newTask("Compacted " + round + i)).getId();
+                taskService.markTaskAsCompleted(ownerId, id, null);
+            }
+            completionQueue.flush();
+        }
+
+        // Six more lines cross the threshold of six at least once, leaving at most the last round
+        assertTrue(Files.readAllLines(JOURNAL).size() <= 3);
+        assertFalse(Files.exists(JOURNAL.resolveSibling(JOURNAL.getFileName() + ".next")));
+    }
+
+    @Test
+    @DisplayName("Should coalesce repeats and reject new tasks once the queue is full")
+    void shouldCoalesceAndApplyBackpressure() {
+        Long[] ids = new Long[4];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = taskService.addTask(ownerId, newTask("Queued " + i)).getId();
+        }
+        for (int i = 0; i < 3; i++) {
+            taskService.markTaskAsCompleted(ownerId, ids[i], null);
+        }
+        assertEquals(3, completionQueue.size());
+
+        assertThrows(ServiceUnavailableException.class, () -> taskService.markTaskAsCompleted(ownerId, ids[3], null));
+        taskService.markTaskAsCompleted(ownerId, ids[0], null);
+        assertEquals(3, completionQueue.size());
+
+        completionQueue.flush();
+
+        assertEquals(0, completionQueue.size());
+        taskService.markTaskAsCompleted(ownerId, ids[3], null);
+    }
+
+    @Test
+    @DisplayName("Should journal concurrent completions with shared syncs")
+    void shouldJournalConcurrentCompletions() throws Exception {
+        Long[] ids = new Long[3];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = taskService.addTask(ownerId, newTask("Concurrent " + i)).getId();
+        }
+        int journaled = Files.readAllLines(JOURNAL).size();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService callers = Executors.newFixedThreadPool(ids.length);
+        try {
+            List<Future<?>> submitted = new ArrayList<>();
+            for (Long id : ids) {
+                submitted.add(callers.submit(() -> {
+                    start.await();
+                    completionQueue.submit(ownerId, id, LocalDateTime.now());
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : submitted) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+
+        assertEquals(3, completionQueue.size());
+        assertEquals(journaled + 3, Files.readAllLines(JOURNAL).size());
+        completionQueue.flush();
+        for (Long id : ids) {
+            assertEquals(Task.TaskStatus.COMPLETED, taskService.getTask(ownerId, id).getStatus());
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep an update made after the completion was accepted")
+    void shouldLetLaterUpdateWin() {
+        TaskDTO task = taskService.addTask(ownerId, newTask("Reopened"));
+        taskService.markTaskAsCompleted(ownerId, task.getId(), null);
+
+        TaskDTO reopened = taskService.getTask(ownerId, task.getId());
+        reopened.setStatus(Task.TaskStatus.IN_PROGRESS);
+        taskService.updateTask(ownerId, reopened, task.getId(), null);
+        completionQueue.flush();
+
+        assertEquals(Task.TaskStatus.IN_PROGRESS, taskService.getTask(ownerId, task.getId()).getStatus());
+    }
+
+    @Test
+    @DisplayName("Should replay journaled completions after a restart")
+    void shouldReplayJournal() throws IOException {
+        TaskDTO task = taskService.addTask(ownerId, newTask("Recovered"));
+        LocalDateTime completedAt = LocalDateTime.now().plusSeconds(1).truncatedTo(ChronoUnit.MICROS);
+        Files.writeString(JOURNAL, task.getId() + "," + ownerId + "," + completedAt + "\n" + task.getId() + ",",
+                StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        completionQueue.recover();
+        completionQueue.flush();
+
+        TaskDTO written = taskService.getTask(ownerId, task.getId());
+        assertEquals(Task.TaskStatus.COMPLETED, written.getStatus());
+        assertEquals(completedAt, written.getCompletedAt());
+    }
+}
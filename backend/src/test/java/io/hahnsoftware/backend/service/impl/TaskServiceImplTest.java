@@ -0,0 +1,283 @@
+package io.hahnsoftware.backend.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hahnsoftware.backend.dto.TaskBatchResultDTO;
+import io.hahnsoftware.backend.dto.TaskDTO;
+import io.hahnsoftware.backend.dto.TaskPageDTO;
+import io.hahnsoftware.backend.dto.TaskPageRequest;
+import io.hahnsoftware.backend.dto.TaskStatsDTO;
+import io.hahnsoftware.backend.entity.Task;
+import io.hahnsoftware.backend.exception.BadRequestException;
+import io.hahnsoftware.backend.exception.PreconditionFailedException;
+import io.hahnsoftware.backend.exception.ResourceNotFoundException;
+import io.hahnsoftware.backend.repository.UserRepository;
+import io.hahnsoftware.backend.service.TaskSearchService;
+import io.hahnsoftware.backend.service.TaskService;
+import io.hahnsoftware.backend.service.TaskStatsService;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static io.hahnsoftware.backend.TaskFixtures.newOwner;
+import static io.hahnsoftware.backend.TaskFixtures.newTask;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Task Service Integration Tests")
+class TaskServiceImplTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskSearchService taskSearchService;
+
+    @Autowired
+    private TaskStatsService taskStatsService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Long ownerId;
+
+    @BeforeEach
+    void setUp() {
+        ownerId = newOwner(userRepository);
+    }
+
+    @Test
+    @DisplayName("PAGE - Should walk every task exactly once with keyset cursors")
+    void shouldWalkAllTasksWithCursor() {
+        for (int i = 0; i < 7; i++) {
+            taskService.addTask(ownerId, newTask("Paged task " + i, Task.TaskStatus.TODO, LocalDate.now().plusDays(i + 1)));
+        }
+
+        List<Long> seen = new ArrayList<>();
+        TaskPageRequest request = new TaskPageRequest();
+        request.setSize(3);
+        TaskPageDTO page;
+        do {
+            page = taskService.getTaskPage(ownerId, request);
+            page.getItems().forEach(task -> seen.add(task.getId()));
+            request.setCursor(page.getNextCursor());
+        } while (page.isHasMore());
+
+        List<TaskDTO> expected = taskService.getAllTasks(ownerId).stream()
+                .sorted(Comparator.comparing(TaskDTO::getUpdatedAt).thenComparing(TaskDTO::getId).reversed())
+                .collect(Collectors.toList());
+        assertEquals(expected.stream().map(TaskDTO::getId).collect(Collectors.toList()), seen);
+    }
+
+    @Test
+    @DisplayName("PAGE - Should combine filters with due date ordering")
+    void shouldFilterAndSortByDueDate() {
+        taskService.addTask(ownerId, newTask("Review later", Task.TaskStatus.REVIEW, LocalDate.now().plusDays(30)));
+        taskService.addTask(ownerId, newTask("Review soon", Task.TaskStatus.REVIEW, LocalDate.now().plusDays(2)));
+
+        TaskPageRequest request = new TaskPageRequest();
+        request.setStatus(List.of(Task.TaskStatus.REVIEW));
+        request.setSort("dueDate");
+        request.setDirection("asc");
+        request.setSize(100);
+        List<TaskDTO> items = taskService.getTaskPage(ownerId, request).getItems();
+
+        assertFalse(items.isEmpty());
+        assertTrue(items.stream().allMatch(task -> task.getStatus() == Task.TaskStatus.REVIEW));
+        for (int i = 1; i < items.size(); i++) {
+            assertFalse(items.get(i).getDueDate().isBefore(items.get(i - 1).getDueDate()));
+        }
+    }
+
+    @Test
+    @DisplayName("PAGE - Should reject a cursor issued for another sort")
+    void shouldRejectMismatchedCursor() {
+        TaskPageRequest request = new TaskPageRequest();
+        request.setSort("dueDate");
+        request.setCursor(new TaskCursor("updatedAt", "2025-01-01T00:00", 1L).encode());
+
+        assertThrows(BadRequestException.class, () -> taskService.getTaskPage(ownerId, request));
+    }
+
+    @Test
+    @DisplayName("EXPORT - Should write one JSON line per task")
+    void shouldExportTasksAsNdjson() throws Exception {
+        taskService.addTask(ownerId, newTask("Exported task", Task.TaskStatus.TODO, LocalDate.now().plusDays(5)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        taskService.exportTasks(ownerId, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(taskService.getAllTasks(ownerId).size(), lines.length);
+        for (String line : lines) {
+            assertNotNull(objectMapper.readValue(line, TaskDTO.class).getId());
+        }
+    }
+
+    @Test
+    @DisplayName("BATCH - Should report a result per item and skip invalid ones")
+    void shouldProcessBatchesPerItem() {
+        TaskDTO invalid = newTask("", Task.TaskStatus.TODO, LocalDate.now().plusDays(1));
+        List<TaskBatchResultDTO> created = taskService.addTasks(ownerId, List.of(
+                newTask("Batch one", Task.TaskStatus.TODO, LocalDate.now().plusDays(1)),
+                invalid,
+                newTask("Batch two", Task.TaskStatus.TODO, LocalDate.now().plusDays(2))));
+
+        assertEquals(List.of(TaskBatchResultDTO.Outcome.CREATED, TaskBatchResultDTO.Outcome.INVALID,
+                TaskBatchResultDTO.Outcome.CREATED), created.stream().map(TaskBatchResultDTO::getOutcome).toList());
+        Long first = created.get(0).getId();
+        Long second = created.get(2).getId();
+        assertEquals("Batch one", taskService.getTask(ownerId, first).getTitle());
+
+        TaskDTO update = created.get(2).getTask();
+        update.setTitle("Batch two updated");
+        TaskDTO missing = newTask("Missing", Task.TaskStatus.TODO, LocalDate.now().plusDays(1));
+        missing.setId(-1L);
+        List<TaskBatchResultDTO> updated = taskService.updateTasks(ownerId, List.of(update, missing));
+        assertEquals(TaskBatchResultDTO.Outcome.UPDATED, updated.get(0).getOutcome());
+        assertEquals(TaskBatchResultDTO.Outcome.NOT_FOUND, updated.get(1).getOutcome());
+        assertEquals("Batch two updated", taskService.getTask(ownerId, second).getTitle());
+
+        List<TaskBatchResultDTO> completed = taskService.markTasksAsCompleted(ownerId, List.of(first));
+        assertEquals(Task.TaskStatus.COMPLETED, completed.get(0).getTask().getStatus());
+        assertNotNull(taskService.getTask(ownerId, first).getCompletedAt());
+
+        List<TaskBatchResultDTO> deleted = taskService.deleteTasks(ownerId, Arrays.asList(first, second, null));
+        assertEquals(List.of(TaskBatchResultDTO.Outcome.DELETED, TaskBatchResultDTO.Outcome.DELETED,
+                TaskBatchResultDTO.Outcome.NOT_FOUND), deleted.stream().map(TaskBatchResultDTO::getOutcome).toList());
+        assertThrows(ResourceNotFoundException.class, () -> taskService.getTask(ownerId, first));
+    }
+
+    @Test
+    @DisplayName("VERSION - Should apply conditional mutations only at the expected version")
+    void shouldRejectStaleVersions() {
+        TaskDTO task = taskService.addTask(ownerId, newTask("Versioned task", Task.TaskStatus.TODO, LocalDate.now().plusDays(3)));
+        Long version = task.getVersion();
+        assertNotNull(version);
+
+        task.setTitle("Versioned task v2");
+        TaskDTO updated = taskService.updateTask(ownerId, task, task.getId(), version);
+        assertEquals(version + 1, updated.getVersion());
+        assertThrows(PreconditionFailedException.class, () -> taskService.updateTask(ownerId, task, task.getId(), version));
+
+        assertThrows(PreconditionFailedException.class, () -> taskService.markTaskAsCompleted(ownerId, task.getId(), version));
+        TaskDTO completed = taskService.markTaskAsCompleted(ownerId, task.getId(), updated.getVersion());
+        assertEquals(Task.TaskStatus.COMPLETED, completed.getStatus());
+        assertEquals(updated.getVersion() + 1, completed.getVersion());
+
+        assertThrows(PreconditionFailedException.class, () -> taskService.deleteTask(ownerId, task.getId(), version));
+        taskService.deleteTask(ownerId, task.getId(), completed.getVersion());
+        assertThrows(ResourceNotFoundException.class, () -> taskService.deleteTask(ownerId, task.getId(), null));
+    }
+
+    @Test
+    @DisplayName("SEARCH - Should find tasks by title and description after each change")
+    void shouldKeepSearchCurrent() {
+        TaskDTO task = newTask("Quarterly zeppelin audit", Task.TaskStatus.TODO, LocalDate.now().plusDays(3));
+        task.setDescription("Inspect the hangar");
+        TaskDTO saved = taskService.addTask(ownerId, task);
+        assertNotNull(saved.getCreatedAt());
+
+        assertEquals(List.of(saved.getId()), ids(taskSearchService.search(ownerId, "zeppelin hangar", 0, 10).getItems()));
+
+        saved.setTitle("Quarterly blimp audit");
+        taskService.updateTask(ownerId, saved, saved.getId(), null);
+        assertTrue(taskSearchService.search(ownerId, "zeppelin", 0, 10).getItems().isEmpty());
+        assertEquals(List.of(saved.getId()), ids(taskSearchService.search(ownerId, "blimp", 0, 10).getItems()));
+
+        taskService.deleteTask(ownerId, saved.getId(), null);
+        assertTrue(taskSearchService.search(ownerId, "blimp", 0, 10).getItems().isEmpty());
+    }
+
+    @Test
+    @DisplayName("STATS - Should aggregate counts, completions and lead time in the database")
+    void shouldComputeStats() {
+        TaskStatsDTO before = taskStatsService.getStats(ownerId, 7);
+        TaskDTO task = taskService.addTask(ownerId, newTask("Stats task", Task.TaskStatus.REVIEW, LocalDate.now().plusDays(3)));
+        task.setPriority(Task.TaskPriority.URGENT);
+        taskService.updateTask(ownerId, task, task.getId(), null);
+        taskService.markTaskAsCompleted(ownerId, task.getId(), null);
+
+        TaskStatsDTO after = taskStatsService.getStats(ownerId, 7);
+
+        assertEquals(before.getTotal() + 1, after.getTotal());
+        assertEquals(before.getCountsByStatusAndPriority().get(Task.TaskStatus.COMPLETED).get(Task.TaskPriority.URGENT) + 1,
+                after.getCountsByStatusAndPriority().get(Task.TaskStatus.COMPLETED).get(Task.TaskPriority.URGENT));
+        assertEquals(7, after.getCompletedPerDay().size());
+        assertEquals(before.getCompletedPerDay().get(LocalDate.now()) + 1, after.getCompletedPerDay().get(LocalDate.now()));
+        assertNotNull(after.getAverageLeadTimeHours());
+        assertTrue(after.getAverageLeadTimeHours() >= 0);
+    }
+
+    @Test
+    @DisplayName("CACHE - Should serve lists from cache and evict only the lists a write touches")
+    void shouldCacheListsAndEvictPrecisely() {
+        Cache lists = cacheManager.getCache("taskLists");
+        TaskDTO task = taskService.addTask(ownerId, newTask("Cached list task", Task.TaskStatus.REVIEW, LocalDate.now().plusDays(3)));
+        taskService.getTasksByStatus(ownerId, "REVIEW");
+        taskService.getTasksByStatus(ownerId, "TODO");
+        taskService.getTasksByPriority(ownerId, "MEDIUM");
+        assertNotNull(lists.get(TaskListCache.statusKey(ownerId, Task.TaskStatus.REVIEW)));
+        assertNotNull(lists.get(TaskListCache.statusKey(ownerId, Task.TaskStatus.TODO)));
+
+        task.setStatus(Task.TaskStatus.IN_PROGRESS);
+        taskService.updateTask(ownerId, task, task.getId(), null);
+
+        assertNull(lists.get(TaskListCache.statusKey(ownerId, Task.TaskStatus.REVIEW)));
+        assertNull(lists.get(TaskListCache.priorityKey(ownerId, Task.TaskPriority.MEDIUM)));
+        assertNotNull(lists.get(TaskListCache.statusKey(ownerId, Task.TaskStatus.TODO)));
+        assertFalse(ids(taskService.getTasksByStatus(ownerId, "REVIEW")).contains(task.getId()));
+        assertTrue(ids(taskService.getTasksByStatus(ownerId, "IN_PROGRESS")).contains(task.getId()));
+
+        taskService.getTask(ownerId, task.getId());
+        assertTrue(entityManagerFactory.getCache().contains(Task.class, task.getId()));
+    }
+
+    @Test
+    @DisplayName("OWNER - Should hide and protect tasks of other owners")
+    void shouldScopeTasksToOwner() {
+        TaskDTO task = taskService.addTask(ownerId, newTask("Private task", Task.TaskStatus.TODO, LocalDate.now().plusDays(3)));
+        Long otherId = newOwner(userRepository);
+
+        assertTrue(taskService.getAllTasks(otherId).isEmpty());
+        assertTrue(taskService.getTasksByStatus(otherId, "TODO").isEmpty());
+        assertEquals(0, taskStatsService.getStats(otherId, 7).getTotal());
+        assertThrows(ResourceNotFoundException.class, () -> taskService.getTask(otherId, task.getId()));
+        assertThrows(ResourceNotFoundException.class, () -> taskService.updateTask(otherId, task, task.getId(), null));
+        assertThrows(ResourceNotFoundException.class, () -> taskService.markTaskAsCompleted(otherId, task.getId(), null));
+        assertThrows(ResourceNotFoundException.class, () -> taskService.deleteTask(otherId, task.getId(), null));
+        assertEquals(TaskBatchResultDTO.Outcome.NOT_FOUND,
+                taskService.deleteTasks(otherId, List.of(task.getId())).get(0).getOutcome());
+
+        assertEquals(List.of(task.getId()), ids(taskService.getAllTasks(ownerId)));
+        assertEquals(Task.TaskStatus.TODO, taskService.getTask(ownerId, task.getId()).getStatus());
+    }
+
+    private List<Long> ids(List<TaskDTO> tasks) {
+        return tasks.stream().map(TaskDTO::getId).collect(Collectors.toList());
+    }
+}
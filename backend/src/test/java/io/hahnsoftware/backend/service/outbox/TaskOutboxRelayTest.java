@@ -0,0 +1,116 @@
+package io.hahnsoftware.backend.service.outbox;
+
+import io.hahnsoftware.backend.dto.TaskDTO;
+import io.hahnsoftware.backend.entity.Task;
+import io.hahnsoftware.backend.repository.UserRepository;
+import io.hahnsoftware.backend.service.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static io.hahnsoftware.backend.TaskFixtures.newOwner;
+import static io.hahnsoftware.backend.TaskFixtures.newTask;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Task Outbox Tests")
+class TaskOutboxRelayTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskOutboxRelay relay;
+
+    @Autowired
+    private InMemoryTaskOutboxSink sink;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Long ownerId;
+
+    @BeforeEach
+    void setUp() {
+        ownerId = newOwner(userRepository);
+    }
+
+    @Test
+    @DisplayName("Should relay every committed change in order and empty the outbox")
+    void shouldRelayChangesInOrder() {
+        TaskDTO task = taskService.addTask(ownerId, newTask("Relayed"));
+        task.setTitle("Relayed again");
+        taskService.updateTask(ownerId, task, task.getId(), null);
+        taskService.markTaskAsCompleted(ownerId, task.getId(), null);
+        taskService.deleteTask(ownerId, task.getId(), null);
+
+        relay.relay();
+
+        List<TaskOutboxMessage> messages = messagesFor(task.getId());
+        assertEquals(List.of("CREATED", "UPDATED", "COMPLETED", "DELETED"),
+                messages.stream().map(TaskOutboxMessage::type).toList());
+        assertTrue(messages.get(1).event().contains("Relayed again"));
+        assertEquals(ownerId, messages.get(0).ownerId());
+        assertEquals(0, outboxRows(task.getId()));
+    }
+
+    @Test
+    @DisplayName("Should write nothing for a rolled back change")
+    void shouldSkipRolledBackChanges() {
+        TaskDTO task = new TransactionTemplate(transactionManager).execute(status -> {
+            TaskDTO added = taskService.addTask(ownerId, newTask("Rolled back"));
+            status.setRollbackOnly();
+            return added;
+        });
+
+        assertEquals(0, outboxRows(task.getId()));
+        relay.relay();
+        assertTrue(messagesFor(task.getId()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should leave the outbox alone while another relay holds the lock")
+    void shouldRelayOneAtATime() {
+        TaskDTO task = taskService.addTask(ownerId, newTask("Locked out"));
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            jdbcTemplate.queryForList("select id from task_outbox_relay_lock for update", Integer.class);
+            // Another thread, so the relay gets its own transaction and connection
+            Thread other = new Thread(relay::relay);
+            other.start();
+            try {
+                other.join(10_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        assertTrue(messagesFor(task.getId()).isEmpty());
+        assertEquals(1, outboxRows(task.getId()));
+        relay.relay();
+        assertEquals(1, messagesFor(task.getId()).size());
+    }
+
+    private List<TaskOutboxMessage> messagesFor(Long taskId) {
+        return sink.getMessages().stream().filter(message -> message.taskId().equals(taskId)).toList();
+    }
+
+    private int outboxRows(Long taskId) {
+        return jdbcTemplate.queryForObject("select count(*) from task_outbox where task_id = ?", Integer.class, taskId);
+    }
+}